@@ -1,16 +1,22 @@
+import java.io.*;
 import java.util.*;
 import java.time.*;
+import java.util.concurrent.*;
+import java.lang.management.*;
 
 public class Main{
     static class Order{
         int id;
         String name;
         LocalDateTime ts;
+        long key; // ts as epoch nanos (UTC), cached so sorts can compare primitives
         
         Order(int id , String name , LocalDateTime timestamp){
              this.id = id;
             this.name = name;
             this.ts = timestamp;
+            // fits a long for about 1677-2262; anything outside throws ArithmeticException
+            this.key = Math.addExact(Math.multiplyExact(timestamp.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L), timestamp.getNano());
             
         }
         
@@ -20,16 +26,142 @@ public class Main{
     }
     
     static List<Order> generateOrders(int count){
-        List<Order> orders = new ArrayList<>();
-        Random rand = new Random();
+        return new OrderGenerator(count, new Random().nextLong()).generate(Runtime.getRuntime().availableProcessors());
+    }
+    
+    // Same data as generateOrders, produced lazily so it never has to fit on the heap
+    static Iterator<Order> orderStream(int count){
+        return new OrderGenerator(count, new Random().nextLong()).iterator();
+    }
+    
+    // ---------- ORDER GENERATOR ----------
+    // Seedable synthetic orders: customer names drawn from [0, count) and
+    // timestamps up to count seconds before a single captured "now".
+    // Orders are produced in fixed chunks, each with its own SplittableRandom
+    // split off the seed in chunk order, so the output for a seed is the same
+    // whatever the number of threads.
+    static class OrderGenerator{
+        static final int CHUNK = 1 << 16;
         
-        for(int i = 1;i<=count;i++){
-            String name = "Customer_" + rand.nextInt(count);
-            LocalDateTime ts = LocalDateTime.now().minusSeconds(rand.nextInt(count));
-            
-            orders.add(new Order(i,name,ts));
+        int count;
+        long seed;
+        LocalDateTime now;
+        
+        OrderGenerator(int count, long seed){
+            this(count, seed, LocalDateTime.now());
+        }
+        
+        OrderGenerator(int count, long seed, LocalDateTime now){
+            if(count < 0) throw new IllegalArgumentException("count must not be negative");
+            this.count = count;
+            this.seed = seed;
+            this.now = now;
+        }
+        
+        int chunks(){
+            return (count + CHUNK - 1) / CHUNK;
+        }
+        
+        SplittableRandom[] chunkRandoms(){
+            SplittableRandom root = new SplittableRandom(seed);
+            SplittableRandom[] rngs = new SplittableRandom[chunks()];
+            for(int c = 0;c<rngs.length;c++) rngs[c] = root.split();
+            return rngs;
+        }
+        
+        // Fills dst[offset..] with chunk c and returns how many orders it wrote.
+        // With a names pool each customer name is built once and shared.
+        int fillChunk(Order[] dst, int offset, int c, SplittableRandom rng, String[] names){
+            int from = c * CHUNK;
+            int to = Math.min(count, from + CHUNK);
+            for(int i = from;i<to;i++){
+                int n = rng.nextInt(count);
+                String name;
+                if(names == null){
+                    name = "Customer_" + n;
+                }
+                else{
+                    // racing threads may both build a name; either copy is fine
+                    name = names[n];
+                    if(name == null) names[n] = name = "Customer_" + n;
+                }
+                dst[offset + i - from] = new Order(i+1, name, now.minusSeconds(rng.nextInt(count)));
+            }
+            return to - from;
+        }
+        
+        List<Order> generate(int parallelism){
+            Order[] orders = new Order[count];
+            String[] names = new String[count];
+            SplittableRandom[] rngs = chunkRandoms();
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for(int c = 0;c<rngs.length;c++){
+                int chunk = c;
+                tasks.add(() -> {
+                    fillChunk(orders, chunk * CHUNK, chunk, rngs[chunk], names);
+                    return null;
+                });
+            }
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try{
+                for(Future<Void> f : pool.invokeAll(tasks)) f.get();
+            }
+            catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Order generation interrupted", e);
+            }
+            catch(ExecutionException e){
+                throw new IllegalStateException("Order generation failed", e.getCause());
+            }
+            finally{
+                pool.shutdown();
+            }
+            return new ArrayList<>(Arrays.asList(orders));
+        }
+        
+        // Sequential, one chunk in memory at a time; names are not pooled
+        // here, since the pool would grow with count
+        Iterator<Order> iterator(){
+            SplittableRandom[] rngs = chunkRandoms();
+            return new Iterator<Order>(){
+                Order[] chunk = new Order[Math.min(CHUNK, count)];
+                int c = 0, pos = 0, len = 0;
+                public boolean hasNext(){
+                    return pos < len || c < rngs.length;
+                }
+                public Order next(){
+                    if(pos == len){
+                        if(c == rngs.length) throw new NoSuchElementException();
+                        len = fillChunk(chunk, 0, c, rngs[c], null);
+                        c++;
+                        pos = 0;
+                    }
+                    return chunk[pos++];
+                }
+            };
+        }
+        
+        // Writes the orders in the order file format read by OrderReader
+        void writeTo(File file) throws IOException{
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))){
+                out.writeInt(count);
+                Iterator<Order> it = iterator();
+                while(it.hasNext()) writeOrder(out, it.next());
+            }
         }
-        return orders;
+    }
+    
+    // java Main generate <count> <file> [seed]
+    static void generateFile(String[] args) throws IOException{
+        int count = Integer.parseInt(args[1]);
+        File file = new File(args[2]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new Random().nextLong();
+        
+        long start = System.currentTimeMillis();
+        new OrderGenerator(count, seed).writeTo(file);
+        long end = System.currentTimeMillis();
+        
+        System.out.println("Wrote "+count+" orders (seed "+seed+") to "+file+" - "+(end - start)+" ms");
     }
     
     static void mergeSort(List<Order> orders , int left , int right){
@@ -46,7 +178,8 @@ public class Main{
         List<Order> R = new ArrayList<>(orders.subList(m+1, r+1));
         int i = 0 , j = 0, k = l;
         while(i < L.size() && j < R.size()){
-        if(L.get(i).ts.isBefore(R.get(j).ts)){
+        // take from the left run on ties so equal timestamps keep their input order
+        if(!R.get(j).ts.isBefore(L.get(i).ts)){
             orders.set(k++ , L.get(i++));
         }
         else{
@@ -60,16 +193,665 @@ public class Main{
         
     }
     
-    public static void main(String[] args){
+    // ---------- PARALLEL MERGE SORT ----------
+    // below this many elements a task just runs the sequential mergeSort
+    static final int PARALLEL_CUTOFF = 8192;
+    
+    static class MergeSortTask extends RecursiveAction{
+        List<Order> orders;
+        int left, right;
+        
+        MergeSortTask(List<Order> orders, int left, int right){
+            this.orders = orders;
+            this.left = left;
+            this.right = right;
+        }
+        
+        protected void compute(){
+            if(right - left + 1 <= PARALLEL_CUTOFF){
+                mergeSort(orders, left, right);
+                return;
+            }
+            // same split point as mergeSort, so the result is identical to the sequential path
+            int mid = (left+right)/2;
+            invokeAll(new MergeSortTask(orders, left, mid), new MergeSortTask(orders, mid+1, right));
+            merge(orders, left, mid, right);
+        }
+    }
+    
+    // Tasks only call set() on disjoint ranges, which is safe on an ArrayList
+    static void parallelMergeSort(List<Order> orders, int parallelism){
+        if(orders.size() < 2) return;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try{
+            pool.invoke(new MergeSortTask(orders, 0, orders.size()-1));
+        }
+        finally{
+            pool.shutdown();
+        }
+    }
+    
+    // ---------- BUFFERED MERGE SORT ----------
+    // runs this short are finished with insertion sort instead of recursing further
+    static final int INSERTION_CUTOFF = 16;
+    
+    // Allocates one scratch array up front; the recursion then alternates
+    // which of the two arrays is the source, so merging creates no garbage
+    static void bufferedMergeSort(List<Order> orders){
+        if(orders.size() < 2) return;
+        Order[] a = orders.toArray(new Order[0]);
+        Order[] aux = a.clone();
+        sortRun(aux, a, 0, a.length-1);
+        for(int i = 0;i<a.length;i++) orders.set(i, a[i]);
+    }
+    
+    // Sorts src[lo..hi] into dst[lo..hi]; both arrays hold the same elements on entry
+    static void sortRun(Order[] src, Order[] dst, int lo, int hi){
+        if(hi - lo < INSERTION_CUTOFF){
+            insertionSort(dst, lo, hi);
+            return;
+        }
+        int mid = (lo+hi) >>> 1;
+        sortRun(dst, src, lo, mid);
+        sortRun(dst, src, mid+1, hi);
+        
+        // halves already in order, just copy across
+        if(!src[mid+1].ts.isBefore(src[mid].ts)){
+            System.arraycopy(src, lo, dst, lo, hi-lo+1);
+            return;
+        }
+        int i = lo, j = mid+1;
+        for(int k = lo;k<=hi;k++){
+            if(i > mid) dst[k] = src[j++];
+            else if(j > hi) dst[k] = src[i++];
+            else if(!src[j].ts.isBefore(src[i].ts)) dst[k] = src[i++];
+            else dst[k] = src[j++];
+        }
+    }
+    
+    static void insertionSort(Order[] a, int lo, int hi){
+        for(int i = lo+1;i<=hi;i++){
+            Order x = a[i];
+            int j = i;
+            while(j > lo && x.ts.isBefore(a[j-1].ts)){
+                a[j] = a[j-1];
+                j--;
+            }
+            a[j] = x;
+        }
+    }
+    
+    // ---------- KEY SORT ----------
+    // Sorts (key, index) pairs held in primitive arrays and only rearranges
+    // the Order objects once at the end. Orders with equal timestamps keep
+    // their input order.
+    static void keySort(List<Order> orders){
+        int n = orders.size();
+        if(n < 2) return;
+        Order[] a = orders.toArray(new Order[0]);
+        long[] keys = new long[n];
+        int[] idx = new int[n];
+        for(int i = 0;i<n;i++){
+            keys[i] = a[i].key;
+            idx[i] = i;
+        }
+        long[] keyAux = keys.clone();
+        int[] idxAux = idx.clone();
+        sortKeys(keyAux, idxAux, keys, idx, 0, n-1);
+        for(int i = 0;i<n;i++) orders.set(i, a[idx[i]]);
+    }
+    
+    // Same ping-pong scheme as sortRun, moving keys and indexes together
+    static void sortKeys(long[] srcK, int[] srcI, long[] dstK, int[] dstI, int lo, int hi){
+        if(hi - lo < INSERTION_CUTOFF){
+            for(int i = lo+1;i<=hi;i++){
+                long k = dstK[i];
+                int x = dstI[i];
+                int j = i;
+                while(j > lo && k < dstK[j-1]){
+                    dstK[j] = dstK[j-1];
+                    dstI[j] = dstI[j-1];
+                    j--;
+                }
+                dstK[j] = k;
+                dstI[j] = x;
+            }
+            return;
+        }
+        int mid = (lo+hi) >>> 1;
+        sortKeys(dstK, dstI, srcK, srcI, lo, mid);
+        sortKeys(dstK, dstI, srcK, srcI, mid+1, hi);
+        
+        if(srcK[mid] <= srcK[mid+1]){
+            System.arraycopy(srcK, lo, dstK, lo, hi-lo+1);
+            System.arraycopy(srcI, lo, dstI, lo, hi-lo+1);
+            return;
+        }
+        int i = lo, j = mid+1;
+        for(int k = lo;k<=hi;k++){
+            if(i > mid || (j <= hi && srcK[j] < srcK[i])){
+                dstK[k] = srcK[j];
+                dstI[k] = srcI[j++];
+            }
+            else{
+                dstK[k] = srcK[i];
+                dstI[k] = srcI[i++];
+            }
+        }
+    }
+    
+    // ---------- RADIX SORT ----------
+    // Stable LSD radix sort on the epoch-nanos key, one byte per pass.
+    // Keys are rebased on the minimum first, so a bounded time window only
+    // needs as many passes as the window has significant bytes.
+    static void radixSort(List<Order> orders, boolean descending){
+        int n = orders.size();
+        if(n < 2) return;
+        Order[] a = orders.toArray(new Order[0]);
+        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        for(Order o : a){
+            min = Math.min(min, o.key);
+            max = Math.max(max, o.key);
+        }
+        long[] keys = new long[n];
+        int[] idx = new int[n];
+        for(int i = 0;i<n;i++){
+            keys[i] = a[i].key - min;
+            idx[i] = i;
+        }
+        long[] keyAux = new long[n];
+        int[] idxAux = new int[n];
+        int[] count = new int[256];
+        int bits = 64 - Long.numberOfLeadingZeros(max - min);
+        
+        for(int shift = 0;shift<bits;shift += 8){
+            Arrays.fill(count, 0);
+            for(int i = 0;i<n;i++) count[digit(keys[i], shift, descending)]++;
+            // every key has the same digit here, nothing to move
+            if(count[digit(keys[0], shift, descending)] == n) continue;
+            
+            int sum = 0;
+            for(int d = 0;d<256;d++){
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for(int i = 0;i<n;i++){
+                int pos = count[digit(keys[i], shift, descending)]++;
+                keyAux[pos] = keys[i];
+                idxAux[pos] = idx[i];
+            }
+            long[] tk = keys; keys = keyAux; keyAux = tk;
+            int[] ti = idx; idx = idxAux; idxAux = ti;
+        }
+        for(int i = 0;i<n;i++) orders.set(i, a[idx[i]]);
+    }
+    
+    // reversing the digit gives a descending order that is still stable
+    static int digit(long key, int shift, boolean descending){
+        int d = (int)(key >>> shift) & 0xFF;
+        return descending ? 255 - d : d;
+    }
+    
+    // Timestamp order, read from the cached key
+    static int compareTs(Order a, Order b){
+        return Long.compare(a.key, b.key);
+    }
+    
+    // ---------- EXTERNAL SORT ----------
+    // Order file format: int record count, then per order
+    // int id, UTF name, long epoch second (UTC), int nano
+    static void writeOrder(DataOutputStream out, Order o) throws IOException{
+        out.writeInt(o.id);
+        out.writeUTF(o.name);
+        out.writeLong(o.ts.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(o.ts.getNano());
+    }
+    
+    static Order readOrder(DataInputStream in) throws IOException{
+        int id = in.readInt();
+        String name = in.readUTF();
+        long sec = in.readLong();
+        int nano = in.readInt();
+        return new Order(id, name, LocalDateTime.ofEpochSecond(sec, nano, ZoneOffset.UTC));
+    }
+    
+    // Streams an order file back in; the file is closed once the last record is read
+    static class OrderReader implements Iterator<Order>, Closeable{
+        DataInputStream in;
+        int remaining;
+        
+        OrderReader(File file, int bufferBytes) throws IOException{
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), bufferBytes));
+            remaining = in.readInt();
+            if(remaining == 0) close();
+        }
+        
+        public boolean hasNext(){
+            return remaining > 0;
+        }
+        
+        public Order next(){
+            if(remaining == 0) throw new NoSuchElementException();
+            try{
+                Order o = readOrder(in);
+                if(--remaining == 0) close();
+                return o;
+            }
+            catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        public void close() throws IOException{
+            in.close();
+        }
+    }
+    
+    // Sorts an order stream larger than the heap: sorted runs of runSize orders
+    // are spilled to temp files, then merged back with a k-way heap merge.
+    // If there are more runs than the memory budget allows open buffers for,
+    // runs are merged in several passes.
+    static class ExternalSorter{
+        // rough heap footprint of one Order with its name and timestamp
+        static final int ESTIMATED_ORDER_BYTES = 200;
+        
+        int runSize;      // orders sorted in memory per run
+        int bufferBytes;  // I/O buffer per open run file
+        int maxFanIn;     // runs merged at once
+        File tmpDir;
+        int runsWritten;
+        
+        ExternalSorter(int runSize, int bufferBytes, int maxFanIn, File tmpDir){
+            if(runSize < 1 || bufferBytes < 1 || maxFanIn < 2)
+                throw new IllegalArgumentException("runSize and bufferBytes must be positive, maxFanIn at least 2");
+            this.runSize = runSize;
+            this.bufferBytes = bufferBytes;
+            this.maxFanIn = maxFanIn;
+            this.tmpDir = tmpDir;
+        }
+        
+        // Splits a heap budget between the in-memory run (about half, the run
+        // plus its scratch array) and the read buffers used during merging
+        static ExternalSorter forMemoryBudget(long budgetBytes, File tmpDir){
+            int bufferBytes = 64 * 1024;
+            int runSize = (int)Math.min(Integer.MAX_VALUE - 8, Math.max(1, budgetBytes / 2 / ESTIMATED_ORDER_BYTES));
+            int maxFanIn = (int)Math.max(2, Math.min(1024, budgetBytes / 2 / bufferBytes));
+            return new ExternalSorter(runSize, bufferBytes, maxFanIn, tmpDir);
+        }
+        
+        // Returns the number of orders written to output
+        int sort(Iterator<Order> input, File output) throws IOException{
+            List<File> runs = new ArrayList<>();
+            int total = 0;
+            try{
+                List<Order> run = new ArrayList<>();
+                while(input.hasNext()){
+                    run.add(input.next());
+                    if(run.size() == runSize){
+                        runs.add(spill(run));
+                        total += run.size();
+                        run.clear();
+                    }
+                }
+                if(!run.isEmpty() || runs.isEmpty()){
+                    runs.add(spill(run));
+                    total += run.size();
+                }
+                run = null;
+                
+                // intermediate passes over consecutive groups keep the merge stable
+                while(runs.size() > maxFanIn){
+                    List<File> next = new ArrayList<>();
+                    for(int i = 0;i<runs.size();i += maxFanIn){
+                        List<File> group = runs.subList(i, Math.min(runs.size(), i+maxFanIn));
+                        File merged = File.createTempFile("orders-run", ".bin", tmpDir);
+                        runsWritten++;
+                        mergeRuns(group, merged);
+                        for(File f : group) f.delete();
+                        next.add(merged);
+                    }
+                    runs = next;
+                }
+                mergeRuns(runs, output);
+            }
+            finally{
+                for(File f : runs) f.delete();
+            }
+            return total;
+        }
+        
+        File spill(List<Order> run) throws IOException{
+            bufferedMergeSort(run);
+            File file = File.createTempFile("orders-run", ".bin", tmpDir);
+            runsWritten++;
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), bufferBytes))){
+                out.writeInt(run.size());
+                for(Order o : run) writeOrder(out, o);
+            }
+            return file;
+        }
+        
+        // heap entry: the next unread order of one run
+        static class Head{
+            Order order;
+            int run;
+            OrderReader reader;
+            
+            Head(Order order, int run, OrderReader reader){
+                this.order = order;
+                this.run = run;
+                this.reader = reader;
+            }
+        }
+        
+        void mergeRuns(List<File> runs, File output) throws IOException{
+            // ties go to the earlier run, which holds the earlier input
+            PriorityQueue<Head> pq = new PriorityQueue<>((a, b) -> {
+                int c = compareTs(a.order, b.order);
+                return c != 0 ? c : Integer.compare(a.run, b.run);
+            });
+            List<OrderReader> readers = new ArrayList<>();
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output), bufferBytes))){
+                int total = 0;
+                for(int r = 0;r<runs.size();r++){
+                    OrderReader reader = new OrderReader(runs.get(r), bufferBytes);
+                    readers.add(reader);
+                    total += reader.remaining;
+                    if(reader.hasNext()) pq.add(new Head(reader.next(), r, reader));
+                }
+                out.writeInt(total);
+                while(!pq.isEmpty()){
+                    Head h = pq.poll();
+                    writeOrder(out, h.order);
+                    if(h.reader.hasNext()){
+                        h.order = h.reader.next();
+                        pq.add(h);
+                    }
+                }
+            }
+            finally{
+                for(OrderReader reader : readers) reader.close();
+            }
+        }
+    }
+    
+    // java Main external <count | order file> <memory budget MB> [output file]
+    static void externalSort(String[] args) throws IOException{
+        String source = args.length > 1 ? args[1] : "10000000";
+        long budget = (args.length > 2 ? Long.parseLong(args[2]) : 64) * 1024 * 1024;
+        File output = new File(args.length > 3 ? args[3] : "orders_sorted.bin");
+        ExternalSorter sorter = ExternalSorter.forMemoryBudget(budget, null);
+        Iterator<Order> input = source.chars().allMatch(Character::isDigit)
+                ? orderStream(Integer.parseInt(source))
+                : new OrderReader(new File(source), sorter.bufferBytes);
+        
+        long start = System.currentTimeMillis();
+        int written = sorter.sort(input, output);
+        long end = System.currentTimeMillis();
+        
+        System.out.println("External sort of "+written+" orders - "+(end - start)+" ms");
+        System.out.println("  run size "+sorter.runSize+", temp files written "+sorter.runsWritten+", fan-in "+sorter.maxFanIn);
+        
+        // stream the output back to check it
+        OrderReader reader = new OrderReader(output, sorter.bufferBytes);
+        long prev = Long.MIN_VALUE;
+        boolean sorted = true;
+        while(reader.hasNext()){
+            long key = reader.next().key;
+            if(key < prev) sorted = false;
+            prev = key;
+        }
+        System.out.println("Sorted by timestamp - "+sorted);
+    }
+    
+    // ---------- INCREMENTAL ORDER LOG ----------
+    // Keeps arriving orders queryable by timestamp without re-sorting
+    // everything (LSM style). New orders go into a small sorted buffer; a full
+    // buffer becomes an immutable sorted run, and runs of similar size are
+    // merged, so there are only O(log n) runs and each order is merged
+    // O(log n) times. Queries merge the heads (or tails) of the runs.
+    static class OrderLog{
+        Order[] buffer;
+        int bufferSize;
+        List<Order[]> runs = new ArrayList<>(); // oldest first
+        int size;
+        
+        OrderLog(int bufferCapacity){
+            if(bufferCapacity < 1) throw new IllegalArgumentException("bufferCapacity must be positive");
+            buffer = new Order[bufferCapacity];
+        }
+        
+        void add(Order o){
+            // insert after any equal timestamps so arrival order is kept
+            int lo = 0, hi = bufferSize;
+            while(lo < hi){
+                int mid = (lo+hi) >>> 1;
+                if(compareTs(buffer[mid], o) <= 0) lo = mid+1;
+                else hi = mid;
+            }
+            System.arraycopy(buffer, lo, buffer, lo+1, bufferSize-lo);
+            buffer[lo] = o;
+            bufferSize++;
+            size++;
+            if(bufferSize == buffer.length) flush();
+        }
+        
+        void flush(){
+            if(bufferSize == 0) return;
+            runs.add(Arrays.copyOf(buffer, bufferSize));
+            Arrays.fill(buffer, 0, bufferSize, null);
+            bufferSize = 0;
+            // merge the newest run into its predecessor while they are of similar size
+            while(runs.size() > 1){
+                Order[] newer = runs.get(runs.size()-1);
+                Order[] older = runs.get(runs.size()-2);
+                if(older.length > 2L * newer.length) break;
+                runs.remove(runs.size()-1);
+                runs.set(runs.size()-1, mergeArrays(older, newer));
+            }
+        }
+        
+        static Order[] mergeArrays(Order[] older, Order[] newer){
+            Order[] out = new Order[older.length + newer.length];
+            int i = 0, j = 0, k = 0;
+            while(i < older.length && j < newer.length)
+                out[k++] = compareTs(newer[j], older[i]) < 0 ? newer[j++] : older[i++];
+            while(i < older.length) out[k++] = older[i++];
+            while(j < newer.length) out[k++] = newer[j++];
+            return out;
+        }
+        
+        // k earliest orders, earliest first
+        List<Order> earliest(int k){
+            List<Order[]> sources = sources();
+            int[] pos = new int[sources.size()];
+            List<Order> result = new ArrayList<>(Math.min(k, size));
+            while(result.size() < k){
+                int best = -1;
+                for(int s = 0;s<sources.size();s++){
+                    Order[] src = sources.get(s);
+                    int len = s == runs.size() ? bufferSize : src.length;
+                    if(pos[s] == len) continue;
+                    // strict comparison: on ties the older source wins
+                    if(best == -1 || compareTs(src[pos[s]], sources.get(best)[pos[best]]) < 0) best = s;
+                }
+                if(best == -1) break;
+                result.add(sources.get(best)[pos[best]++]);
+            }
+            return result;
+        }
+        
+        // k latest orders, latest first
+        List<Order> latest(int k){
+            List<Order[]> sources = sources();
+            int[] pos = new int[sources.size()];
+            for(int s = 0;s<sources.size();s++)
+                pos[s] = (s == runs.size() ? bufferSize : sources.get(s).length) - 1;
+            List<Order> result = new ArrayList<>(Math.min(k, size));
+            while(result.size() < k){
+                int best = -1;
+                for(int s = 0;s<sources.size();s++){
+                    if(pos[s] < 0) continue;
+                    // non-strict: on ties the newer source wins, mirroring earliest()
+                    if(best == -1 || compareTs(sources.get(s)[pos[s]], sources.get(best)[pos[best]]) >= 0) best = s;
+                }
+                if(best == -1) break;
+                result.add(sources.get(best)[pos[best]--]);
+            }
+            return result;
+        }
+        
+        // runs oldest first, then the buffer
+        List<Order[]> sources(){
+            List<Order[]> sources = new ArrayList<>(runs);
+            sources.add(buffer);
+            return sources;
+        }
+    }
+    
+    // java Main stream [count] [query every n inserts] [k]
+    static void streamBenchmark(String[] args){
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int queryEvery = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int k = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        OrderLog log = new OrderLog(4096);
+        Iterator<Order> in = orderStream(count);
+        long[] latencies = new long[count / queryEvery];
+        int queries = 0;
+        long insertNanos = 0;
+        
+        while(in.hasNext()){
+            Order o = in.next();
+            long t0 = System.nanoTime();
+            log.add(o);
+            insertNanos += System.nanoTime() - t0;
+            if(log.size % queryEvery == 0){
+                long q0 = System.nanoTime();
+                log.earliest(k);
+                log.latest(k);
+                latencies[queries++] = System.nanoTime() - q0;
+            }
+        }
+        Arrays.sort(latencies, 0, queries);
+        System.out.printf("Ingested %d orders - %.0f inserts/s (%d runs live)%n",
+                count, count / (insertNanos / 1e9), log.runs.size());
+        if(queries > 0){
+            System.out.printf("Earliest+latest %d queries (%d) - median %.1f us, p99 %.1f us%n",
+                    k, queries, latencies[queries/2] / 1e3, latencies[(int)(queries * 0.99)] / 1e3);
+        }
+    }
+    
+    // ---------- SORT MODES ----------
+    static void sort(List<Order> orders, String mode, int parallelism){
+        switch (mode) {
+            case "merge" -> mergeSort(orders, 0, orders.size()-1);
+            case "parallel" -> parallelMergeSort(orders, parallelism);
+            case "buffered" -> bufferedMergeSort(orders);
+            case "key" -> keySort(orders);
+            case "radix" -> radixSort(orders, false);
+            case "radix-desc" -> radixSort(orders, true);
+            case "builtin" -> orders.sort(Comparator.comparing((Order o) -> o.ts));
+            default -> throw new IllegalArgumentException("Unknown sort mode: "+mode);
+        }
+    }
+    
+    // java Main bench [sizes] [modes], e.g. bench 1000000,10000000 merge,radix,builtin
+    // (10M orders need a heap of roughly 4 GB)
+    static void benchmark(String[] args){
+        String[] sizes = (args.length > 1 ? args[1] : "1000000,10000000").split(",");
+        String[] modes = (args.length > 2 ? args[2] : "merge,radix,radix-desc,builtin").split(",");
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        
+        for(String size : sizes){
+            int count = Integer.parseInt(size);
+            List<Order> orders = generateOrders(count);
+            System.out.println("\n"+count+" orders:");
+            for(String mode : modes){
+                List<Order> copy = new ArrayList<>(orders);
+                long start = System.currentTimeMillis();
+                sort(copy, mode, parallelism);
+                long end = System.currentTimeMillis();
+                System.out.printf("  %-11s %6d ms%n", mode, end - start);
+            }
+        }
+    }
+    
+    // ---------- GC STATS ----------
+    // {collection count, accumulated collection time in ms} over all collectors
+    static long[] gcSnapshot(){
+        long count = 0, time = 0;
+        for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()){
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{count, time};
+    }
+    
+    static void printGc(String label, long[] before){
+        long[] after = gcSnapshot();
+        System.out.println("  GC during "+label+" - "+(after[0] - before[0])+" collections, "+(after[1] - before[1])+" ms paused");
+    }
+    
+    public static void main(String[] args) throws IOException{
+        if(args.length > 0 && args[0].equals("bench")){
+            benchmark(args);
+            return;
+        }
+        if(args.length > 0 && args[0].equals("generate")){
+            generateFile(args);
+            return;
+        }
+        if(args.length > 0 && args[0].equals("stream")){
+            streamBenchmark(args);
+            return;
+        }
+        if(args.length > 0 && args[0].equals("external")){
+            externalSort(args);
+            return;
+        }
         List<Order> order_list = new ArrayList<>();
         int count = 1_000_000;
+        // optional first argument: number of worker threads for the parallel sort
+        int parallelism = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
         order_list = generateOrders(count);
+        List<Order> parallel_list = new ArrayList<>(order_list);
+        List<Order> buffered_list = new ArrayList<>(order_list);
+        List<Order> key_list = new ArrayList<>(order_list);
         
+        long[] gc = gcSnapshot();
         long start = System.currentTimeMillis();
         mergeSort(order_list, 0 , order_list.size() -1 );
         long end = System.currentTimeMillis();
         
         System.out.println("Time required for Sorting - "+(end - start)+" ms");
+        printGc("merge sort", gc);
+        
+        gc = gcSnapshot();
+        long bStart = System.currentTimeMillis();
+        bufferedMergeSort(buffered_list);
+        long bEnd = System.currentTimeMillis();
+        
+        System.out.println("Time required for Buffered Sorting - "+(bEnd - bStart)+" ms");
+        printGc("buffered merge sort", gc);
+        System.out.println("Same order as sequential - "+order_list.equals(buffered_list));
+        
+        gc = gcSnapshot();
+        long kStart = System.currentTimeMillis();
+        keySort(key_list);
+        long kEnd = System.currentTimeMillis();
+        
+        System.out.println("Time required for Key Sorting (epoch nanos) - "+(kEnd - kStart)+" ms");
+        printGc("key sort", gc);
+        System.out.println("Same order as sequential - "+order_list.equals(key_list));
+        
+        long pStart = System.currentTimeMillis();
+        parallelMergeSort(parallel_list, parallelism);
+        long pEnd = System.currentTimeMillis();
+        
+        System.out.println("Time required for Parallel Sorting ("+parallelism+" threads) - "+(pEnd - pStart)+" ms");
+        System.out.printf("Speedup - %.2fx%n", (double)(end - start) / Math.max(1, pEnd - pStart));
+        System.out.println("Same order as sequential - "+order_list.equals(parallel_list));
         System.out.println("First 10 orders - ");
         
         for(int i = 1;i<=10;i++){
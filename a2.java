@@ -1,5 +1,12 @@
 import java.io.*;
+import java.lang.management.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
 
 public class QuickSortMovies {
 
@@ -49,6 +56,467 @@ public class QuickSortMovies {
         return i + 1;
     }
 
+    // ---------- TYPED SORT KEYS ----------
+    // Multi-key ordering resolved once before sorting. Each key becomes a
+    // long column normalized so that ascending order is wanted. If the
+    // columns fit in 63 bits together with the row number, they are packed
+    // into one long per row and sorted with Arrays.sort(long[]). Otherwise
+    // the rows are merge sorted with a loop over the columns. Either way the
+    // inner loop is fixed code over primitives, with no per-element switch
+    // or String compare, and ties keep the input order.
+    enum SortKey {
+        RATING, YEAR, ID;
+
+        KeyOrder asc() {
+            return new KeyOrder(this, false);
+        }
+
+        KeyOrder desc() {
+            return new KeyOrder(this, true);
+        }
+    }
+
+    static class KeyOrder {
+        SortKey key;
+        boolean descending;
+
+        KeyOrder(SortKey key, boolean descending) {
+            this.key = key;
+            this.descending = descending;
+        }
+    }
+
+    static long[] keyValues(SortKey key, int n, double[] rating, int[] year, int[] id) {
+        long[] values = new long[n];
+        switch (key) {
+            case RATING -> {
+                // two-decimal ratings (as in the CSV) become exact cents,
+                // which need far fewer bits than the raw double
+                boolean cents = true;
+                for (int i = 0; i < n && cents; i++) {
+                    double c = Math.rint(rating[i] * 100);
+                    cents = c / 100 == rating[i] && Math.abs(c) < 1L << 52;
+                }
+                for (int i = 0; i < n; i++)
+                    values[i] = cents ? (long) Math.rint(rating[i] * 100) : sortableBits(rating[i]);
+            }
+            case YEAR -> {
+                for (int i = 0; i < n; i++) values[i] = year[i];
+            }
+            case ID -> {
+                for (int i = 0; i < n; i++) values[i] = id[i];
+            }
+        }
+        return values;
+    }
+
+    static int bitsFor(long range) {
+        return range < 0 ? 64 : 64 - Long.numberOfLeadingZeros(range);
+    }
+
+    // Packs the columns and the row number into one long per row, or returns
+    // null if they need more than 63 bits. The row sits in the low
+    // bitsFor(n - 1) bits, so packed values are unique.
+    static long[] packRows(long[][] columns, int n) {
+        int k = columns.length;
+        long[] min = new long[k];
+        int[] width = new int[k];
+        int rowBits = bitsFor(n - 1);
+        int total = rowBits;
+        for (int c = 0; c < k; c++) {
+            long lo = Long.MAX_VALUE, hi = Long.MIN_VALUE;
+            for (long v : columns[c]) {
+                lo = Math.min(lo, v);
+                hi = Math.max(hi, v);
+            }
+            min[c] = lo;
+            width[c] = n == 0 ? 0 : bitsFor(hi - lo);
+            total += width[c];
+        }
+        if (total > 63) return null;
+
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            long p = 0;
+            for (int c = 0; c < k; c++) p = (p << width[c]) | (columns[c][i] - min[c]);
+            packed[i] = (p << rowBits) | i;
+        }
+        return packed;
+    }
+
+    // columns[c][row] with ascending order wanted; returns rows in sorted order
+    static int[] orderRows(long[][] columns, int n) {
+        int[] rows = new int[n];
+        long[] packed = packRows(columns, n);
+        if (packed != null) {
+            Arrays.sort(packed);
+            long rowMask = (1L << bitsFor(n - 1)) - 1;
+            for (int i = 0; i < n; i++) rows[i] = (int) (packed[i] & rowMask);
+        } else {
+            for (int i = 0; i < n; i++) rows[i] = i;
+            int[] aux = rows.clone();
+            mergeRows(aux, rows, 0, n - 1, columns);
+        }
+        return rows;
+    }
+
+    // Stable merge sort of src[lo..hi] into dst[lo..hi] (both start equal)
+    static void mergeRows(int[] src, int[] dst, int lo, int hi, long[][] columns) {
+        if (hi - lo < INSERTION_CUTOFF) {
+            for (int i = lo + 1; i <= hi; i++) {
+                int r = dst[i];
+                int j = i - 1;
+                while (j >= lo && compareRows(columns, dst[j], r) > 0) {
+                    dst[j + 1] = dst[j];
+                    j--;
+                }
+                dst[j + 1] = r;
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeRows(dst, src, lo, mid, columns);
+        mergeRows(dst, src, mid + 1, hi, columns);
+        int i = lo, j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid || (j <= hi && compareRows(columns, src[j], src[i]) < 0)) dst[k] = src[j++];
+            else dst[k] = src[i++];
+        }
+    }
+
+    static int compareRows(long[][] columns, int a, int b) {
+        for (long[] col : columns) {
+            if (col[a] != col[b]) return col[a] < col[b] ? -1 : 1;
+        }
+        return 0;
+    }
+
+    static long[][] keyColumns(KeyOrder[] keys, int n, double[] rating, int[] year, int[] id) {
+        long[][] columns = new long[keys.length][];
+        for (int c = 0; c < keys.length; c++) {
+            long[] col = keyValues(keys[c].key, n, rating, year, id);
+            // bitwise not reverses the order of signed longs without overflow
+            if (keys[c].descending) for (int i = 0; i < n; i++) col[i] = ~col[i];
+            columns[c] = col;
+        }
+        return columns;
+    }
+
+    // e.g. sort(table, SortKey.RATING.desc(), SortKey.YEAR.asc(), SortKey.ID.asc())
+    static void sort(MovieTable table, KeyOrder... keys) {
+        int n = table.size;
+        table.permute(0, orderRows(keyColumns(keys, n, table.rating, table.year, table.id), n));
+    }
+
+    static void sort(List<Movie> list, KeyOrder... keys) {
+        int n = list.size();
+        double[] rating = new double[n];
+        int[] year = new int[n], id = new int[n];
+        Movie[] movies = list.toArray(new Movie[0]);
+        for (int i = 0; i < n; i++) {
+            rating[i] = movies[i].rating;
+            year[i] = movies[i].year;
+            id[i] = movies[i].id;
+        }
+        int[] rows = orderRows(keyColumns(keys, n, rating, year, id), n);
+        for (int i = 0; i < n; i++) list.set(i, movies[rows[i]]);
+    }
+
+    // ---------- TOP-K ----------
+    // The k rows that come first in a key order, without sorting the rest.
+    // Packed keys use quickselect (O(n) expected) and then sort only the
+    // first k; otherwise a bounded heap of k rows is kept (O(n log k)).
+    static int[] topRows(long[][] columns, int n, int k) {
+        k = Math.min(k, n);
+        int[] rows = new int[k];
+        long[] packed = packRows(columns, n);
+        if (packed != null) {
+            selectSmallest(packed, k);
+            Arrays.sort(packed, 0, k);
+            long rowMask = (1L << bitsFor(n - 1)) - 1;
+            for (int i = 0; i < k; i++) rows[i] = (int) (packed[i] & rowMask);
+            return rows;
+        }
+        // max-heap whose root is the worst row kept so far; later rows lose ties
+        int size = 0;
+        for (int r = 0; r < n; r++) {
+            if (size < k) {
+                int i = size++;
+                while (i > 0 && laterInOrder(columns, r, rows[(i - 1) / 2])) {
+                    rows[i] = rows[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                rows[i] = r;
+            } else if (k > 0 && laterInOrder(columns, rows[0], r)) {
+                siftDownRows(columns, rows, 0, k, r);
+            }
+        }
+        // pop the heap from the back to get best-first order
+        for (int end = k - 1; end > 0; end--) {
+            int worst = rows[0];
+            siftDownRows(columns, rows, 0, end, rows[end]);
+            rows[end] = worst;
+        }
+        return rows;
+    }
+
+    static boolean laterInOrder(long[][] columns, int a, int b) {
+        int c = compareRows(columns, a, b);
+        return c > 0 || (c == 0 && a > b);
+    }
+
+    static void siftDownRows(long[][] columns, int[] heap, int i, int size, int row) {
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && laterInOrder(columns, heap[child + 1], heap[child])) child++;
+            if (!laterInOrder(columns, heap[child], row)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = row;
+    }
+
+    // Moves the k smallest values of a (all distinct) into a[0, k)
+    static void selectSmallest(long[] a, int k) {
+        int lo = 0, hi = a.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            // median of three as pivot
+            long x = a[lo], y = a[mid], z = a[hi];
+            long pivot = Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+            int i = lo - 1, j = hi + 1;
+            while (true) {
+                do i++; while (a[i] < pivot);
+                do j--; while (a[j] > pivot);
+                if (i >= j) break;
+                long t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+            // [lo, j] <= [j + 1, hi]
+            if (k - 1 <= j) hi = j;
+            else lo = j + 1;
+        }
+    }
+
+    // e.g. topK(table, 5, SortKey.RATING.desc()) - rows best first
+    static int[] topK(MovieTable table, int k, KeyOrder... keys) {
+        return topRows(keyColumns(keys, table.size, table.rating, table.year, table.id), table.size, k);
+    }
+
+    static List<Movie> topK(List<Movie> list, int k, KeyOrder... keys) {
+        int n = list.size();
+        double[] rating = new double[n];
+        int[] year = new int[n], id = new int[n];
+        for (int i = 0; i < n; i++) {
+            Movie m = list.get(i);
+            rating[i] = m.rating;
+            year[i] = m.year;
+            id[i] = m.id;
+        }
+        List<Movie> top = new ArrayList<>();
+        for (int r : topRows(keyColumns(keys, n, rating, year, id), n, k)) top.add(list.get(r));
+        return top;
+    }
+
+    // Keeps the best k rows seen so far while the CSV is being parsed
+    static class TopKCollector implements RowHandler {
+        KeyOrder[] keys;
+        int k, size;
+        long rowCount;
+        long[][] values; // per slot: normalized key values, then arrival number
+        int[] heap;      // slots, worst kept row at the root
+        int[] id, year, titleLength;
+        double[] rating;
+        long[] titleOffset;
+        long[] candidate;
+
+        TopKCollector(int k, KeyOrder... keys) {
+            this.k = k;
+            this.keys = keys;
+            values = new long[k][keys.length + 1];
+            heap = new int[k];
+            id = new int[k];
+            year = new int[k];
+            titleLength = new int[k];
+            rating = new double[k];
+            titleOffset = new long[k];
+            candidate = new long[keys.length + 1];
+        }
+
+        public void row(int movieId, long offset, int length, double movieRating, int movieYear) {
+            for (int c = 0; c < keys.length; c++) {
+                long v = switch (keys[c].key) {
+                    case RATING -> sortableBits(movieRating);
+                    case YEAR -> movieYear;
+                    case ID -> movieId;
+                };
+                candidate[c] = keys[c].descending ? ~v : v;
+            }
+            candidate[keys.length] = rowCount++;
+
+            int slot;
+            if (size < k) {
+                slot = size;
+                heap[size++] = slot;
+                siftUp(size - 1);
+            } else if (k > 0 && compare(candidate, values[heap[0]]) < 0) {
+                slot = heap[0];
+            } else {
+                return;
+            }
+            System.arraycopy(candidate, 0, values[slot], 0, candidate.length);
+            id[slot] = movieId;
+            rating[slot] = movieRating;
+            year[slot] = movieYear;
+            titleOffset[slot] = offset;
+            titleLength[slot] = length;
+            if (size == k && slot == heap[0]) siftDown(0);
+        }
+
+        static int compare(long[] a, long[] b) {
+            for (int c = 0; c < a.length; c++) {
+                if (a[c] != b[c]) return a[c] < b[c] ? -1 : 1;
+            }
+            return 0;
+        }
+
+        // candidate is compared while the slot still holds old values
+        void siftUp(int i) {
+            int slot = heap[i];
+            while (i > 0 && compare(candidate, values[heap[(i - 1) / 2]]) > 0) {
+                heap[i] = heap[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            heap[i] = slot;
+        }
+
+        void siftDown(int i) {
+            int slot = heap[i];
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && compare(values[heap[child + 1]], values[heap[child]]) > 0) child++;
+                if (compare(values[heap[child]], values[slot]) <= 0) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = slot;
+        }
+
+        // best first; titles are decoded from the buffer the rows came from
+        List<Movie> result(ByteBuffer source, long base) {
+            Integer[] slots = new Integer[size];
+            for (int i = 0; i < size; i++) slots[i] = heap[i];
+            Arrays.sort(slots, (a, b) -> compare(values[a], values[b]));
+            List<Movie> top = new ArrayList<>();
+            for (int s : slots) {
+                byte[] bytes = new byte[titleLength[s]];
+                source.get((int) (titleOffset[s] - base), bytes);
+                top.add(new Movie(id[s], new String(bytes, StandardCharsets.UTF_8), rating[s], year[s]));
+            }
+            return top;
+        }
+    }
+
+    // Streams the CSV through a TopKCollector; no table or list is built
+    static List<Movie> topK(String filename, int k, KeyOrder... keys) throws IOException {
+        try (FileChannel ch = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            MappedByteBuffer buf = map(ch, 0, ch.size());
+            int end = (int) ch.size();
+            TopKCollector top = new TopKCollector(k, keys);
+            parseRows(buf, skipLine(buf, 0, end), end, 0, top);
+            return top.result(buf, 0);
+        }
+    }
+
+    // ---------- INTROSORT ----------
+    // Production variant of quickSort: median-of-three pivot, three-way
+    // partitioning so duplicate keys (e.g. the ~45 distinct years) are settled
+    // in one pass, insertion sort for short ranges, and heapsort once the
+    // recursion gets deeper than 2*log2(n), which also bounds the stack depth.
+    static void introSort(List<Movie> list, int low, int high, String sortBy) {
+        if (low >= high) return;
+        Movie[] a = list.subList(low, high + 1).toArray(new Movie[0]);
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(a.length));
+        introSort(a, 0, a.length - 1, depthLimit, movieOrder(sortBy));
+        for (int i = 0; i < a.length; i++) list.set(low + i, a[i]);
+    }
+
+    // Highest first, like quickSort
+    static Comparator<Movie> movieOrder(String sortBy) {
+        return switch (sortBy) {
+            case "rating" -> (x, y) -> Double.compare(y.rating, x.rating);
+            case "year" -> (x, y) -> Integer.compare(y.year, x.year);
+            default -> throw new IllegalArgumentException("Unknown sort key: " + sortBy);
+        };
+    }
+
+    static void introSort(Movie[] a, int lo, int hi, int depth, Comparator<Movie> cmp) {
+        while (hi - lo >= INSERTION_CUTOFF) {
+            if (depth-- == 0) {
+                heapSort(a, lo, hi, cmp);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (cmp.compare(a[mid], a[lo]) < 0) swap(a, lo, mid);
+            if (cmp.compare(a[hi], a[lo]) < 0) swap(a, lo, hi);
+            if (cmp.compare(a[hi], a[mid]) < 0) swap(a, mid, hi);
+            Movie pivot = a[mid];
+
+            // [lo, lt) before pivot, [lt, gt] equal to it, (gt, hi] after it
+            int lt = lo, gt = hi, i = lo;
+            while (i <= gt) {
+                int c = cmp.compare(a[i], pivot);
+                if (c < 0) swap(a, lt++, i++);
+                else if (c > 0) swap(a, i, gt--);
+                else i++;
+            }
+            if (lt - lo < hi - gt) {
+                introSort(a, lo, lt - 1, depth, cmp);
+                lo = gt + 1;
+            } else {
+                introSort(a, gt + 1, hi, depth, cmp);
+                hi = lt - 1;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            Movie x = a[i];
+            int j = i - 1;
+            while (j >= lo && cmp.compare(a[j], x) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    static void heapSort(Movie[] a, int lo, int hi, Comparator<Movie> cmp) {
+        int n = hi - lo + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(a, lo, i, n, cmp);
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, lo, lo + end);
+            siftDown(a, lo, 0, end, cmp);
+        }
+    }
+
+    static void siftDown(Movie[] a, int lo, int i, int n, Comparator<Movie> cmp) {
+        Movie x = a[lo + i];
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && cmp.compare(a[lo + child + 1], a[lo + child]) > 0) child++;
+            if (cmp.compare(a[lo + child], x) <= 0) break;
+            a[lo + i] = a[lo + child];
+            i = child;
+        }
+        a[lo + i] = x;
+    }
+
+    static void swap(Movie[] a, int i, int j) {
+        Movie t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
     // ---------- CSV GENERATION ----------
     static void generateCSV(String filename, int count) throws IOException {
         FileWriter fw = new FileWriter(filename);
@@ -64,6 +532,79 @@ public class QuickSortMovies {
         System.out.println("✅ Movies CSV file created with " + count + " records!");
     }
 
+    // ---------- FAST CSV GENERATION ----------
+    // Same columns and value ranges as generateCSV. Rows are formatted into
+    // byte arrays (ratings as fixed-point cents, no String.format) in chunks
+    // of CSV_CHUNK rows on a worker pool, and written in chunk order through
+    // a FileChannel. Each chunk has its own SplittableRandom split off the
+    // seed, so a seed gives the same file for any thread count.
+    static final int CSV_CHUNK = 1 << 16;
+    static final int MAX_ROW_BYTES = 64;
+    static final byte[] HEADER = "MovieID,Title,Rating,Year\n".getBytes(StandardCharsets.US_ASCII);
+    static final byte[] TITLE_PREFIX = "Movie_".getBytes(StandardCharsets.US_ASCII);
+
+    static long generateCSVFast(String filename, int count, int threads, long seed) throws Exception {
+        SplittableRandom root = new SplittableRandom(seed);
+        int chunks = (count + CSV_CHUNK - 1) / CSV_CHUNK;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long written = 0;
+        try (FileChannel ch = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            written += writeFully(ch, ByteBuffer.wrap(HEADER));
+            // keep a bounded number of formatted chunks in flight
+            Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+            for (int c = 0; c < chunks; c++) {
+                int from = c * CSV_CHUNK + 1, to = Math.min(count, (c + 1) * CSV_CHUNK);
+                SplittableRandom rng = root.split();
+                pending.add(pool.submit(() -> formatRows(from, to, rng)));
+                if (pending.size() >= 2 * threads) written += writeFully(ch, pending.poll().get());
+            }
+            while (!pending.isEmpty()) written += writeFully(ch, pending.poll().get());
+        } finally {
+            pool.shutdown();
+        }
+        return written;
+    }
+
+    static ByteBuffer formatRows(int from, int to, SplittableRandom rng) {
+        byte[] buf = new byte[(to - from + 1) * MAX_ROW_BYTES];
+        int pos = 0;
+        for (int i = from; i <= to; i++) {
+            int cents = (int) Math.round((5 + rng.nextDouble() * 5) * 100); // 5.00 - 10.00
+            int year = 1980 + rng.nextInt(45);
+            pos = putInt(buf, pos, i);
+            buf[pos++] = ',';
+            System.arraycopy(TITLE_PREFIX, 0, buf, pos, TITLE_PREFIX.length);
+            pos = putInt(buf, pos + TITLE_PREFIX.length, i);
+            buf[pos++] = ',';
+            pos = putInt(buf, pos, cents / 100);
+            buf[pos++] = '.';
+            buf[pos++] = (byte) ('0' + cents / 10 % 10);
+            buf[pos++] = (byte) ('0' + cents % 10);
+            buf[pos++] = ',';
+            pos = putInt(buf, pos, year);
+            buf[pos++] = '\n';
+        }
+        return ByteBuffer.wrap(buf, 0, pos);
+    }
+
+    // Writes the decimal digits of a non-negative int, returns the new position
+    static int putInt(byte[] buf, int pos, int v) {
+        int digits = 1;
+        for (int t = v; t >= 10; t /= 10) digits++;
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        return pos + digits;
+    }
+
+    static int writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        int n = buf.remaining();
+        while (buf.hasRemaining()) ch.write(buf);
+        return n;
+    }
+
     // ---------- CSV READING ----------
     static List<Movie> readCSV(String filename) throws Exception {
         List<Movie> list = new ArrayList<>();
@@ -82,7 +623,825 @@ public class QuickSortMovies {
         return list;
     }
 
+    // ---------- COLUMNAR MOVIE TABLE ----------
+    // Movies stored column by column. Titles stay in the mapped file as
+    // (offset, length) and are only decoded when asked for.
+    static class MovieTable {
+        int size;
+        int[] id;
+        double[] rating;
+        int[] year;
+        long[] titleOffset;
+        int[] titleLength;
+        ByteBuffer[] segments = new ByteBuffer[0]; // mapped file regions
+        long[] segmentStart = new long[0];         // file offset of each segment
+
+        MovieTable(int capacity) {
+            capacity = Math.max(capacity, 16);
+            id = new int[capacity];
+            rating = new double[capacity];
+            year = new int[capacity];
+            titleOffset = new long[capacity];
+            titleLength = new int[capacity];
+        }
+
+        void add(int movieId, long offset, int length, double movieRating, int movieYear) {
+            if (size == id.length) grow(size * 2);
+            id[size] = movieId;
+            rating[size] = movieRating;
+            year[size] = movieYear;
+            titleOffset[size] = offset;
+            titleLength[size] = length;
+            size++;
+        }
+
+        void grow(int capacity) {
+            id = Arrays.copyOf(id, capacity);
+            rating = Arrays.copyOf(rating, capacity);
+            year = Arrays.copyOf(year, capacity);
+            titleOffset = Arrays.copyOf(titleOffset, capacity);
+            titleLength = Arrays.copyOf(titleLength, capacity);
+        }
+
+        void addSegment(ByteBuffer segment, long start) {
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            segmentStart = Arrays.copyOf(segmentStart, segmentStart.length + 1);
+            segments[segments.length - 1] = segment;
+            segmentStart[segmentStart.length - 1] = start;
+        }
+
+        String title(int row) {
+            long offset = titleOffset[row];
+            int s = Arrays.binarySearch(segmentStart, offset);
+            if (s < 0) s = -s - 2; // segment starting at or before offset
+            byte[] bytes = new byte[titleLength[row]];
+            segments[s].get((int) (offset - segmentStart[s]), bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Movie movie(int row) {
+            return new Movie(id[row], title(row), rating[row], year[row]);
+        }
+
+        // Appends the rows (and mapped segments) of other after this table's rows
+        void append(MovieTable other) {
+            if (size + other.size > id.length) grow(size + other.size);
+            System.arraycopy(other.id, 0, id, size, other.size);
+            System.arraycopy(other.rating, 0, rating, size, other.size);
+            System.arraycopy(other.year, 0, year, size, other.size);
+            System.arraycopy(other.titleOffset, 0, titleOffset, size, other.size);
+            System.arraycopy(other.titleLength, 0, titleLength, size, other.size);
+            size += other.size;
+            for (int i = 0; i < other.segments.length; i++) addSegment(other.segments[i], other.segmentStart[i]);
+        }
+
+        List<Movie> toList() {
+            List<Movie> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) list.add(movie(i));
+            return list;
+        }
+
+        // Reorders rows [low, low + perm.length) so that row low + i becomes
+        // the old row perm[i]
+        void permute(int low, int[] perm) {
+            int n = perm.length;
+            int[] ids = new int[n], years = new int[n], lengths = new int[n];
+            double[] ratings = new double[n];
+            long[] offsets = new long[n];
+            for (int i = 0; i < n; i++) {
+                int r = perm[i];
+                ids[i] = id[r];
+                ratings[i] = rating[r];
+                years[i] = year[r];
+                offsets[i] = titleOffset[r];
+                lengths[i] = titleLength[r];
+            }
+            System.arraycopy(ids, 0, id, low, n);
+            System.arraycopy(ratings, 0, rating, low, n);
+            System.arraycopy(years, 0, year, low, n);
+            System.arraycopy(offsets, 0, titleOffset, low, n);
+            System.arraycopy(lengths, 0, titleLength, low, n);
+        }
+    }
+
+    // ---------- PRIMITIVE SORT KERNELS ----------
+    // Rows are sorted as (long key, int row) pairs held in two arrays, so the
+    // inner loops only touch contiguous primitives. Any column can be turned
+    // into such a key.
+
+    // Maps a double to a long with the same ordering as Double.compare
+    static long sortableBits(double d) {
+        long bits = Double.doubleToLongBits(d);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static long[] keyColumn(MovieTable table, int low, int high, String sortBy) {
+        long[] keys = new long[high - low + 1];
+        switch (sortBy) {
+            case "rating" -> {
+                for (int i = low; i <= high; i++) keys[i - low] = sortableBits(table.rating[i]);
+            }
+            case "year" -> {
+                for (int i = low; i <= high; i++) keys[i - low] = table.year[i];
+            }
+            case "id" -> {
+                for (int i = low; i <= high; i++) keys[i - low] = table.id[i];
+            }
+            default -> throw new IllegalArgumentException("Unknown sort key: " + sortBy);
+        }
+        return keys;
+    }
+
+    static final int INSERTION_CUTOFF = 24;
+
+    // Sorts keys[low..high] descending, moving rows along with them
+    static void sortDescending(long[] keys, int[] rows, int low, int high) {
+        while (high - low >= INSERTION_CUTOFF) {
+            int j = partitionDescending(keys, rows, low, high);
+            // recurse into the smaller half, loop on the larger
+            if (j - low < high - j) {
+                sortDescending(keys, rows, low, j);
+                low = j + 1;
+            } else {
+                sortDescending(keys, rows, j + 1, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            long k = keys[i];
+            int r = rows[i];
+            int j = i - 1;
+            while (j >= low && keys[j] < k) {
+                keys[j + 1] = keys[j];
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            keys[j + 1] = k;
+            rows[j + 1] = r;
+        }
+    }
+
+    // Hoare partition around the middle key; equal keys stop both scans, so
+    // long runs of duplicates still split evenly. Afterwards [low, j] holds
+    // keys >= those in [j + 1, high].
+    static int partitionDescending(long[] keys, int[] rows, int low, int high) {
+        long pivot = keys[(low + high) >>> 1];
+        int i = low - 1, j = high + 1;
+        while (true) {
+            do i++; while (keys[i] > pivot);
+            do j--; while (keys[j] < pivot);
+            if (i >= j) return j;
+            swap(keys, rows, i, j);
+        }
+    }
+
+    static void swap(long[] keys, int[] rows, int i, int j) {
+        long k = keys[i];
+        keys[i] = keys[j];
+        keys[j] = k;
+        int r = rows[i];
+        rows[i] = rows[j];
+        rows[j] = r;
+    }
+
+    // Same contract as quickSort on a list: rows low..high end up ordered by
+    // sortBy, highest first
+    static void quickSort(MovieTable table, int low, int high, String sortBy) {
+        if (low >= high) return;
+        long[] keys = keyColumn(table, low, high, sortBy);
+        int[] rows = new int[keys.length];
+        for (int i = 0; i < rows.length; i++) rows[i] = low + i;
+        sortDescending(keys, rows, 0, keys.length - 1);
+        table.permute(low, rows);
+    }
+
+    // ---------- PARALLEL QUICKSORT ----------
+    // ranges shorter than this are sorted sequentially by one task
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    static class QuickSortTask extends RecursiveAction {
+        long[] keys;
+        int[] rows;
+        int low, high;
+
+        QuickSortTask(long[] keys, int[] rows, int low, int high) {
+            this.keys = keys;
+            this.rows = rows;
+            this.low = low;
+            this.high = high;
+        }
+
+        protected void compute() {
+            if (high - low < PARALLEL_THRESHOLD) {
+                sortDescending(keys, rows, low, high);
+                return;
+            }
+            // the two sides of a partition are independent
+            int j = partitionDescending(keys, rows, low, high);
+            invokeAll(new QuickSortTask(keys, rows, low, j), new QuickSortTask(keys, rows, j + 1, high));
+        }
+    }
+
+    // Same result as quickSort(table, low, high, sortBy), on a pool of the given size
+    static void parallelQuickSort(MovieTable table, int low, int high, String sortBy, int parallelism) {
+        if (low >= high) return;
+        long[] keys = keyColumn(table, low, high, sortBy);
+        int[] rows = new int[keys.length];
+        for (int i = 0; i < rows.length; i++) rows[i] = low + i;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new QuickSortTask(keys, rows, 0, keys.length - 1));
+        } finally {
+            pool.shutdown();
+        }
+        table.permute(low, rows);
+    }
+
+    // ---------- MEMORY-MAPPED CSV READING ----------
+    interface RowHandler {
+        void row(int id, long titleOffset, int titleLength, double rating, int year);
+    }
+
+    static final double[] POW10 = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    // Parses the rows in buf[pos, end) straight from bytes; base is the file
+    // offset of buf[0]. Expects the layout written by generateCSV (no quoted
+    // fields, no commas in titles).
+    static void parseRows(ByteBuffer buf, int pos, int end, long base, RowHandler handler) {
+        while (pos < end) {
+            byte b = buf.get(pos);
+            if (b == '\n' || b == '\r') { // blank line
+                pos++;
+                continue;
+            }
+            int id = 0;
+            while ((b = buf.get(pos++)) != ',') id = id * 10 + (b - '0');
+
+            int titleStart = pos;
+            while (buf.get(pos) != ',') pos++;
+            int titleLength = pos - titleStart;
+            pos++;
+
+            int ratingStart = pos;
+            long digits = 0;
+            int scale = 0, count = 0;
+            boolean fraction = false;
+            while ((b = buf.get(pos++)) != ',') {
+                if (b == '.') {
+                    fraction = true;
+                } else {
+                    digits = digits * 10 + (b - '0');
+                    count++;
+                    if (fraction) scale++;
+                }
+            }
+            // up to 15 digits the division is exact enough to match Double.parseDouble
+            double rating = count <= 15 ? digits / POW10[scale]
+                    : Double.parseDouble(StandardCharsets.US_ASCII.decode(buf.slice(ratingStart, pos - 1 - ratingStart)).toString());
+
+            int year = 0;
+            while (pos < end && (b = buf.get(pos)) != '\n') {
+                if (b != '\r') year = year * 10 + (b - '0');
+                pos++;
+            }
+            pos++;
+            handler.row(id, base + titleStart, titleLength, rating, year);
+        }
+    }
+
+    static int skipLine(ByteBuffer buf, int pos, int end) {
+        while (pos < end && buf.get(pos) != '\n') pos++;
+        return Math.min(pos + 1, end);
+    }
+
+    static MappedByteBuffer map(FileChannel ch, long start, long length) throws IOException {
+        if (length > Integer.MAX_VALUE)
+            throw new IOException("Region of " + length + " bytes is too large for a single mapping");
+        return ch.map(FileChannel.MapMode.READ_ONLY, start, length);
+    }
+
+    // Loads the CSV into a MovieTable without creating a String per field
+    static MovieTable readCSVMapped(String filename) throws IOException {
+        try (FileChannel ch = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long length = ch.size();
+            MappedByteBuffer buf = map(ch, 0, length);
+            // generated rows are about 30 bytes; overestimating avoids regrowing the columns
+            MovieTable table = new MovieTable((int) Math.min(Integer.MAX_VALUE - 8, length / 20));
+            table.addSegment(buf, 0);
+            int end = (int) length;
+            parseRows(buf, skipLine(buf, 0, end), end, 0, table::add);
+            return table;
+        }
+    }
+
+    // ---------- PARALLEL CSV READING ----------
+    // largest byte range handed to one worker (and mapped in one piece)
+    static final long MAX_CHUNK_BYTES = 256L * 1024 * 1024;
+
+    // Returns the offset of the first row starting at or after pos
+    static long alignToRow(FileChannel ch, long pos, long size) throws IOException {
+        if (pos == 0 || pos >= size) return Math.min(pos, size);
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long p = pos - 1; // a row starts at pos if the byte before it ends a line
+        while (p < size) {
+            buf.clear();
+            int n = ch.read(buf, p);
+            if (n <= 0) break;
+            for (int i = 0; i < n; i++) {
+                if (buf.get(i) == '\n') return p + i + 1;
+            }
+            p += n;
+        }
+        return size;
+    }
+
+    // Splits the file into newline-aligned ranges parsed concurrently, then
+    // joins the partial tables in file order, so rows keep their CSV order
+    static MovieTable readCSVParallel(String filename, int threads) throws Exception {
+        try (FileChannel ch = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long size = ch.size();
+            long dataStart = alignToRow(ch, 1, size); // skip header
+            long dataBytes = size - dataStart;
+            int chunks = (int) Math.max(threads, (dataBytes + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+
+            long[] bounds = new long[chunks + 1];
+            bounds[0] = dataStart;
+            for (int c = 1; c < chunks; c++)
+                bounds[c] = Math.max(bounds[c - 1], alignToRow(ch, dataStart + dataBytes * c / chunks, size));
+            bounds[chunks] = size;
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<MovieTable>> parts = new ArrayList<>();
+                for (int c = 0; c < chunks; c++) {
+                    long start = bounds[c];
+                    long length = bounds[c + 1] - start;
+                    parts.add(pool.submit(() -> {
+                        MovieTable part = new MovieTable((int) (length / 20));
+                        if (length == 0) return part;
+                        MappedByteBuffer buf = map(ch, start, length);
+                        part.addSegment(buf, start);
+                        parseRows(buf, 0, (int) length, start, part::add);
+                        return part;
+                    }));
+                }
+                List<MovieTable> tables = new ArrayList<>();
+                int total = 0;
+                for (Future<MovieTable> f : parts) {
+                    MovieTable part = f.get();
+                    tables.add(part);
+                    total += part.size;
+                }
+                MovieTable table = new MovieTable(total);
+                for (MovieTable part : tables) table.append(part);
+                return table;
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // ---------- PERSISTENT SORTED INDEX ----------
+    // A binary file next to the CSV (movies.csv.idx) holding the movie
+    // columns plus the row orders by rating and by year (highest first), so
+    // later runs can answer sorted and range queries by binary search without
+    // parsing or sorting. Layout, big-endian:
+    //   header : int magic, int version, int rows, int reserved,
+    //            long csv size, long csv mtime, long CRC32 of the body
+    //   body   : int id[rows], double rating[rows], int year[rows],
+    //            long titleOffset[rows], int titleLength[rows],
+    //            int byRating[rows], int byYear[rows]
+    // The index is ignored once the CSV's size or modification time changes.
+    static class MovieIndex {
+        static final int MAGIC = 0x4D564958; // "MVIX"
+        static final int VERSION = 1;
+        static final int HEADER_BYTES = 40;
+        static final int BYTES_PER_ROW = 4 + 8 + 4 + 8 + 4 + 4 + 4;
+
+        int rows;
+        ByteBuffer index;
+        ByteBuffer csv;
+        int ratingAt, yearAt, titleOffsetAt, titleLengthAt, byRatingAt, byYearAt;
+
+        MovieIndex(ByteBuffer index, ByteBuffer csv, int rows) {
+            this.index = index;
+            this.csv = csv;
+            this.rows = rows;
+            ratingAt = HEADER_BYTES + 4 * rows;
+            yearAt = ratingAt + 8 * rows;
+            titleOffsetAt = yearAt + 4 * rows;
+            titleLengthAt = titleOffsetAt + 8 * rows;
+            byRatingAt = titleLengthAt + 4 * rows;
+            byYearAt = byRatingAt + 4 * rows;
+        }
+
+        static Path indexPath(String csvFile) {
+            return Paths.get(csvFile + ".idx");
+        }
+
+        // Writes the index for csvFile, replacing any existing one
+        static void build(String csvFile) throws IOException {
+            Path csvPath = Paths.get(csvFile);
+            long csvSize = Files.size(csvPath);
+            long csvMtime = Files.getLastModifiedTime(csvPath).toMillis();
+            MovieTable t = readCSVMapped(csvFile);
+            int n = t.size;
+            if ((long) n * BYTES_PER_ROW + HEADER_BYTES > Integer.MAX_VALUE)
+                throw new IOException("Too many rows for a single index file: " + n);
+            int[] byRating = orderRows(keyColumns(new KeyOrder[]{SortKey.RATING.desc()}, n, t.rating, t.year, t.id), n);
+            int[] byYear = orderRows(keyColumns(new KeyOrder[]{SortKey.YEAR.desc()}, n, t.rating, t.year, t.id), n);
+
+            ByteBuffer body = ByteBuffer.allocate(n * BYTES_PER_ROW);
+            for (int i = 0; i < n; i++) body.putInt(t.id[i]);
+            for (int i = 0; i < n; i++) body.putDouble(t.rating[i]);
+            for (int i = 0; i < n; i++) body.putInt(t.year[i]);
+            for (int i = 0; i < n; i++) body.putLong(t.titleOffset[i]);
+            for (int i = 0; i < n; i++) body.putInt(t.titleLength[i]);
+            for (int r : byRating) body.putInt(r);
+            for (int r : byYear) body.putInt(r);
+            body.flip();
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(0)
+                    .putLong(csvSize).putLong(csvMtime).putLong(crc.getValue());
+            header.flip();
+
+            // write beside the target and rename, so readers never see a partial index
+            Path target = indexPath(csvFile);
+            Path tmp = Paths.get(target + ".tmp");
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) ch.write(header);
+                while (body.hasRemaining()) ch.write(body);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        // Maps a valid, up-to-date index, or returns null if there is none
+        static MovieIndex open(String csvFile) throws IOException {
+            Path csvPath = Paths.get(csvFile);
+            Path path = indexPath(csvFile);
+            if (!Files.exists(path)) return null;
+            ByteBuffer idx;
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (ch.size() < HEADER_BYTES) return null;
+                idx = map(ch, 0, ch.size());
+            }
+            if (idx.getInt(0) != MAGIC || idx.getInt(4) != VERSION) return null;
+            int n = idx.getInt(8);
+            if (idx.getLong(16) != Files.size(csvPath)
+                    || idx.getLong(24) != Files.getLastModifiedTime(csvPath).toMillis()
+                    || idx.capacity() != HEADER_BYTES + (long) n * BYTES_PER_ROW) return null;
+            CRC32 crc = new CRC32();
+            crc.update(idx.slice(HEADER_BYTES, idx.capacity() - HEADER_BYTES));
+            if (crc.getValue() != idx.getLong(32)) return null;
+
+            try (FileChannel ch = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+                return new MovieIndex(idx, map(ch, 0, ch.size()), n);
+            }
+        }
+
+        static MovieIndex openOrBuild(String csvFile) throws IOException {
+            MovieIndex index = open(csvFile);
+            if (index != null) return index;
+            build(csvFile);
+            index = open(csvFile);
+            if (index == null) throw new IOException("Index for " + csvFile + " could not be read back");
+            return index;
+        }
+
+        int id(int row) {
+            return index.getInt(HEADER_BYTES + 4 * row);
+        }
+
+        double rating(int row) {
+            return index.getDouble(ratingAt + 8 * row);
+        }
+
+        int year(int row) {
+            return index.getInt(yearAt + 4 * row);
+        }
+
+        Movie movie(int row) {
+            byte[] bytes = new byte[index.getInt(titleLengthAt + 4 * row)];
+            csv.get((int) index.getLong(titleOffsetAt + 8 * row), bytes);
+            return new Movie(id(row), new String(bytes, StandardCharsets.UTF_8), rating(row), year(row));
+        }
+
+        // i-th movie by rating / by year, highest first
+        Movie byRating(int i) {
+            return movie(index.getInt(byRatingAt + 4 * i));
+        }
+
+        Movie byYear(int i) {
+            return movie(index.getInt(byYearAt + 4 * i));
+        }
+
+        // Movies with from <= year <= to, latest year first
+        List<Movie> yearBetween(int from, int to) {
+            // years descend along byYear: skip those above to, stop below from
+            int start = firstYearAtMost(to), end = firstYearAtMost(from - 1);
+            List<Movie> result = new ArrayList<>(Math.max(0, end - start));
+            for (int i = start; i < end; i++) result.add(byYear(i));
+            return result;
+        }
+
+        int firstYearAtMost(int y) {
+            int lo = 0, hi = rows;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (year(index.getInt(byYearAt + 4 * mid)) > y) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        // Movies with from <= rating <= to, highest rating first
+        List<Movie> ratingBetween(double from, double to) {
+            int start = firstRatingAtMost(to, true), end = firstRatingAtMost(from, false);
+            List<Movie> result = new ArrayList<>(Math.max(0, end - start));
+            for (int i = start; i < end; i++) result.add(byRating(i));
+            return result;
+        }
+
+        // first position whose rating is <= r (inclusive) or < r (exclusive)
+        int firstRatingAtMost(double r, boolean inclusive) {
+            int lo = 0, hi = rows;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                double v = rating(index.getInt(byRatingAt + 4 * mid));
+                if (inclusive ? v > r : v >= r) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    // java QuickSortMovies index [file] - cold start with vs without the index
+    static void indexBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        long t0 = System.nanoTime();
+        if (MovieIndex.open(file) == null) {
+            MovieIndex.build(file);
+            System.out.println("Built " + MovieIndex.indexPath(file) + " in " + (System.nanoTime() - t0) / 1_000_000 + " ms");
+        }
+
+        // index path first, so it does not profit from a JIT warmed by the scan
+        t0 = System.nanoTime();
+        MovieIndex index = MovieIndex.open(file);
+        Movie best = index.byRating(0);
+        int inRange = index.yearBetween(1995, 2005).size();
+        long withIndex = System.nanoTime() - t0;
+
+        t0 = System.nanoTime();
+        MovieTable table = readCSVMapped(file);
+        sort(table, SortKey.YEAR.desc());
+        int count = 0;
+        for (int i = 0; i < table.size; i++) if (table.year[i] >= 1995 && table.year[i] <= 2005) count++;
+        MovieTable byRating = readCSVMapped(file);
+        sort(byRating, SortKey.RATING.desc());
+        long withoutIndex = System.nanoTime() - t0;
+
+        System.out.println("Top movie by rating: " + best + ", movies from 1995-2005: " + inRange + " (scan found " + count + ")");
+        System.out.printf("With index    : %d ms (open + checksum + queries)%n", withIndex / 1_000_000);
+        System.out.printf("Without index : %d ms (parse + sort by year and rating)%n", withoutIndex / 1_000_000);
+    }
+
+    // ---------- LOAD BENCHMARK ----------
+    static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    // java QuickSortMovies load [file] [rounds]
+    static void loadBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        double mb = new File(file).length() / (1024.0 * 1024.0);
+
+        for (int r = 1; r <= rounds; r++) {
+            long a0 = allocatedBytes();
+            long t0 = System.nanoTime();
+            int rows = readCSV(file).size();
+            long t1 = System.nanoTime();
+            long a1 = allocatedBytes();
+            MovieTable table = readCSVMapped(file);
+            long t2 = System.nanoTime();
+            long a2 = allocatedBytes();
+
+            System.out.printf("Round %d (%d rows, %.1f MB)%n", r, rows, mb);
+            System.out.printf("  BufferedReader : %6d ms, %7.1f MB/s, %5d bytes allocated/row%n",
+                    (t1 - t0) / 1_000_000, mb / ((t1 - t0) / 1e9), (a1 - a0) / Math.max(1, rows));
+            System.out.printf("  Memory-mapped  : %6d ms, %7.1f MB/s, %5d bytes allocated/row%n",
+                    (t2 - t1) / 1_000_000, mb / ((t2 - t1) / 1e9), (a2 - a1) / Math.max(1, table.size));
+        }
+    }
+
+    // java QuickSortMovies load-scaling [file] [max threads] - best of 3 runs per thread count
+    static void loadScaling(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        double mb = new File(file).length() / (1024.0 * 1024.0);
+        readCSVParallel(file, maxThreads); // warm up
+
+        long base = 0;
+        // 1, 2, 4, ... and finally maxThreads
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            long best = Long.MAX_VALUE;
+            int rows = 0;
+            for (int r = 0; r < 3; r++) {
+                long t0 = System.nanoTime();
+                rows = readCSVParallel(file, threads).size;
+                best = Math.min(best, System.nanoTime() - t0);
+            }
+            if (threads == 1) base = best;
+            System.out.printf("%3d threads: %6d ms, %7.1f MB/s, speedup %.2fx (%d rows)%n",
+                    threads, best / 1_000_000, mb / (best / 1e9), (double) base / best, rows);
+            if (threads == maxThreads) break;
+        }
+    }
+
+    // java QuickSortMovies table [file] - list quicksort vs the columnar kernels
+    static void tableBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        List<Movie> list = readCSV(file);
+        long t0 = System.currentTimeMillis();
+        quickSort(list, 0, list.size() - 1, "rating");
+        long t1 = System.currentTimeMillis();
+        System.out.println("List quickSort by rating  : " + (t1 - t0) + " ms");
+
+        for (String sortBy : new String[]{"rating", "year"}) {
+            MovieTable table = readCSVMapped(file);
+            long s0 = System.currentTimeMillis();
+            quickSort(table, 0, table.size - 1, sortBy);
+            long s1 = System.currentTimeMillis();
+            System.out.printf("Table quickSort by %-6s : %d ms%n", sortBy, s1 - s0);
+        }
+    }
+
+    // java QuickSortMovies intro [file] [rows] - quickSort vs introSort vs List.sort
+    static void introBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        List<Movie> movies = readCSV(file);
+        if (args.length > 2) movies = new ArrayList<>(movies.subList(0, Math.min(movies.size(), Integer.parseInt(args[2]))));
+
+        for (String sortBy : new String[]{"rating", "year"}) {
+            System.out.println("\nSort by " + sortBy + " (" + movies.size() + " rows):");
+            // the Lomuto quickSort goes quadratic on the few distinct years
+            if (sortBy.equals("rating") || movies.size() <= 100_000) {
+                List<Movie> copy = new ArrayList<>(movies);
+                long t0 = System.currentTimeMillis();
+                quickSort(copy, 0, copy.size() - 1, sortBy);
+                System.out.println("  quickSort : " + (System.currentTimeMillis() - t0) + " ms");
+            } else {
+                System.out.println("  quickSort : skipped (quadratic on duplicate years above 100k rows)");
+            }
+
+            List<Movie> copy = new ArrayList<>(movies);
+            long t0 = System.currentTimeMillis();
+            introSort(copy, 0, copy.size() - 1, sortBy);
+            System.out.println("  introSort : " + (System.currentTimeMillis() - t0) + " ms");
+
+            copy = new ArrayList<>(movies);
+            t0 = System.currentTimeMillis();
+            copy.sort(movieOrder(sortBy));
+            System.out.println("  List.sort : " + (System.currentTimeMillis() - t0) + " ms");
+        }
+    }
+
+    // java QuickSortMovies keys [file] - rating desc, year asc, id asc
+    static void keysBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        List<Movie> movies = readCSV(file);
+        Comparator<Movie> chain = Comparator.comparingDouble((Movie m) -> m.rating).reversed()
+                .thenComparingInt(m -> m.year).thenComparingInt(m -> m.id);
+
+        for (int round = 1; round <= 3; round++) {
+            List<Movie> copy = new ArrayList<>(movies);
+            long t0 = System.currentTimeMillis();
+            copy.sort(chain);
+            long t1 = System.currentTimeMillis();
+            List<Movie> keyed = new ArrayList<>(movies);
+            sort(keyed, SortKey.RATING.desc(), SortKey.YEAR.asc(), SortKey.ID.asc());
+            long t2 = System.currentTimeMillis();
+            MovieTable table = readCSVMapped(file);
+            long t3 = System.currentTimeMillis();
+            sort(table, SortKey.RATING.desc(), SortKey.YEAR.asc(), SortKey.ID.asc());
+            long t4 = System.currentTimeMillis();
+            System.out.printf("Round %d: comparator chain %d ms, packed keys (list) %d ms, packed keys (table) %d ms, same order %b%n",
+                    round, t1 - t0, t2 - t1, t4 - t3, copy.equals(keyed));
+        }
+    }
+
+    // java QuickSortMovies parallel [file] [pool size] - by rating, best of 3
+    static void parallelBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        MovieTable source = readCSVParallel(file, parallelism);
+        long seq = Long.MAX_VALUE, par = Long.MAX_VALUE, builtin = Long.MAX_VALUE;
+
+        for (int round = 0; round < 3; round++) {
+            MovieTable table = new MovieTable(source.size);
+            table.append(source);
+            long t0 = System.nanoTime();
+            quickSort(table, 0, table.size - 1, "rating");
+            seq = Math.min(seq, System.nanoTime() - t0);
+
+            table = new MovieTable(source.size);
+            table.append(source);
+            t0 = System.nanoTime();
+            parallelQuickSort(table, 0, table.size - 1, "rating", parallelism);
+            par = Math.min(par, System.nanoTime() - t0);
+
+            // sorts the same key column, without moving rows along
+            long[] keys = keyColumn(source, 0, source.size - 1, "rating");
+            t0 = System.nanoTime();
+            Arrays.parallelSort(keys);
+            builtin = Math.min(builtin, System.nanoTime() - t0);
+        }
+        System.out.println(source.size + " movies by rating, pool size " + parallelism + ":");
+        System.out.println("  sequential quickSort  : " + seq / 1_000_000 + " ms");
+        System.out.printf("  parallelQuickSort     : %d ms (%.2fx)%n", par / 1_000_000, (double) seq / par);
+        System.out.println("  Arrays.parallelSort   : " + builtin / 1_000_000 + " ms (keys only)");
+    }
+
+    // java QuickSortMovies top [file] - top-K by rating vs a full sort
+    static void topBenchmark(String[] args) throws Exception {
+        String file = args.length > 1 ? args[1] : "movies.csv";
+        KeyOrder byRating = SortKey.RATING.desc();
+        MovieTable source = readCSVMapped(file);
+
+        for (int k : new int[]{5, 100, 10_000}) {
+            long full = Long.MAX_VALUE, select = Long.MAX_VALUE, stream = Long.MAX_VALUE;
+            for (int round = 0; round < 3; round++) {
+                MovieTable table = new MovieTable(source.size);
+                table.append(source);
+                long t0 = System.nanoTime();
+                sort(table, byRating);
+                full = Math.min(full, System.nanoTime() - t0);
+
+                t0 = System.nanoTime();
+                topK(source, k, byRating);
+                select = Math.min(select, System.nanoTime() - t0);
+
+                t0 = System.nanoTime();
+                topK(file, k, byRating);
+                stream = Math.min(stream, System.nanoTime() - t0);
+            }
+            System.out.printf("K=%-6d full sort %4d ms, quickselect %4d ms, streaming from CSV %4d ms (includes parsing)%n",
+                    k, full / 1_000_000, select / 1_000_000, stream / 1_000_000);
+        }
+        System.out.println("\nTop 5 Movies by rating:");
+        for (Movie m : topK(file, 5, byRating)) System.out.println(m);
+    }
+
     public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("index")) {
+            indexBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("top")) {
+            topBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("parallel")) {
+            parallelBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("keys")) {
+            keysBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("intro")) {
+            introBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("table")) {
+            tableBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("generate")) {
+            // java QuickSortMovies generate [file] [count] [threads] [seed]
+            String out = args.length > 1 ? args[1] : "movies.csv";
+            int rows = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+            int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : new Random().nextLong();
+            long t0 = System.nanoTime();
+            long bytes = generateCSVFast(out, rows, threads, seed);
+            double secs = (System.nanoTime() - t0) / 1e9;
+            System.out.printf("✅ Movies CSV file created with %d records in %.2f s (%.0f rows/s, %.1f MB/s)%n",
+                    rows, secs, rows / secs, bytes / secs / (1024 * 1024));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("load")) {
+            loadBenchmark(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("load-scaling")) {
+            loadScaling(args);
+            return;
+        }
         String file = "movies.csv";
         int count = 1_000_000;
 
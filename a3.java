@@ -76,6 +76,617 @@ public class FractionalKnapsackSimple {
         return takenList;
     }
 
+    // ---------- LINEAR-TIME DIVISIBLE SOLVER ----------
+    // Same load as solveFractional when every item is divisible, in O(n)
+    // expected time and without reordering the caller's list. Taken entries
+    // are in input order rather than ratio order.
+    public static List<Taken> solveDivisible(List<Item> items, double capacity) {
+        int n = items.size();
+        double[] weight = new double[n];
+        double[] value = new double[n];
+        for (int i = 0; i < n; i++) {
+            Item it = items.get(i);
+            if (!it.divisible) throw new IllegalArgumentException(it.name + " is not divisible");
+            weight[i] = it.weight;
+            value[i] = it.value;
+        }
+        double[] fraction = fractionsBySelection(weight, value, capacity);
+        List<Taken> takenList = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (fraction[i] > 0)
+                takenList.add(new Taken(items.get(i).name, weight[i] * fraction[i], value[i] * fraction[i], fraction[i]));
+        }
+        return takenList;
+    }
+
+    // Fraction of each item in the optimal divisible load. Instead of sorting,
+    // quickselect-style passes look for the critical item (the one that gets
+    // cut): partition the undecided items around a random pivot ratio; if the
+    // better side alone overfills the boat, the cut is there and the rest is
+    // dropped, otherwise the better side is taken whole and the search moves
+    // to the worse side. Each pass keeps an expected constant share of the
+    // items, so the total work is O(n).
+    static double[] fractionsBySelection(double[] weight, double[] value, double capacity) {
+        int n = weight.length;
+        double[] ratio = new double[n];
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            ratio[i] = value[i] / weight[i];
+            idx[i] = i;
+        }
+        double[] fraction = new double[n];
+        double remaining = capacity;
+        Random rand = new Random(42);
+        int lo = 0, hi = n; // idx[lo..hi) are still undecided
+
+        while (lo < hi && remaining > 1e-9) {
+            double pivot = ratio[idx[lo + rand.nextInt(hi - lo)]];
+            // [lo, gt) better than pivot, [gt, i) equal, [lt, hi) worse
+            int gt = lo, i = lo, lt = hi;
+            double better = 0, equal = 0;
+            while (i < lt) {
+                int j = idx[i];
+                int c = Double.compare(ratio[j], pivot);
+                if (c > 0) {
+                    better += weight[j];
+                    idx[i++] = idx[gt];
+                    idx[gt++] = j;
+                } else if (c < 0) {
+                    idx[i] = idx[--lt];
+                    idx[lt] = j;
+                } else {
+                    equal += weight[j];
+                    i++;
+                }
+            }
+            if (better > remaining) { // cut lies among the better items
+                hi = gt;
+                continue;
+            }
+            for (int k = lo; k < gt; k++) fraction[idx[k]] = 1.0;
+            remaining -= better;
+            if (equal > remaining) { // cut lies in the tie group, any order gives the same value
+                for (int k = gt; k < lt && remaining > 1e-9; k++) {
+                    int j = idx[k];
+                    double w = Math.min(weight[j], remaining);
+                    fraction[j] = w < weight[j] ? w / weight[j] : 1.0;
+                    remaining -= w;
+                }
+                break;
+            }
+            for (int k = gt; k < lt; k++) fraction[idx[k]] = 1.0;
+            remaining -= equal;
+            lo = lt;
+        }
+        return fraction;
+    }
+
+    // java FractionalKnapsackSimple select [items] - selection vs sort on divisible items
+    static void selectionReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        Random rand = new Random(42);
+        double[] weight = new double[n];
+        double[] value = new double[n];
+        List<Item> items = new ArrayList<>(n);
+        double totalWeight = 0;
+        for (int i = 0; i < n; i++) {
+            weight[i] = 1 + rand.nextDouble() * 99;
+            value[i] = 1 + rand.nextDouble() * 999;
+            items.add(new Item("Item_" + i, weight[i], value[i], true));
+            totalWeight += weight[i];
+        }
+        double capacity = totalWeight / 3;
+        System.out.printf("%,d divisible items, capacity %.1f (best of 3 runs)%n", n, capacity);
+
+        long sortMs = Long.MAX_VALUE, listMs = Long.MAX_VALUE, arrayMs = Long.MAX_VALUE;
+        double sorted = 0, selected = 0, fromArrays = 0;
+        for (int run = 0; run < 3; run++) {
+            List<Item> copy = new ArrayList<>(items); // solveFractional reorders its argument
+            long t0 = System.nanoTime();
+            List<Taken> a = solveFractional(copy, capacity);
+            long t1 = System.nanoTime();
+            List<Taken> b = solveDivisible(items, capacity);
+            long t2 = System.nanoTime();
+            double[] fraction = fractionsBySelection(weight, value, capacity);
+            long t3 = System.nanoTime();
+            sortMs = Math.min(sortMs, (t1 - t0) / 1_000_000);
+            listMs = Math.min(listMs, (t2 - t1) / 1_000_000);
+            arrayMs = Math.min(arrayMs, (t3 - t2) / 1_000_000);
+            sorted = selected = fromArrays = 0;
+            for (Taken t : a) sorted += t.valueGained;
+            for (Taken t : b) selected += t.valueGained;
+            for (int i = 0; i < n; i++) fromArrays += value[i] * fraction[i];
+        }
+        System.out.printf("Sort-based greedy     : %6d ms, value %.3f%n", sortMs, sorted);
+        System.out.printf("Selection (item list) : %6d ms, value %.3f%n", listMs, selected);
+        System.out.printf("Selection (arrays)    : %6d ms, value %.3f%n", arrayMs, fromArrays);
+    }
+
+    // ---------- INCREMENTAL SOLVER ----------
+    // Keeps the depot's items in ratio order (a treap, ties in arrival order)
+    // so items can come and go without re-sorting. load(C) returns the same
+    // Taken list as solveFractional over the current items in arrival order.
+    // Each subtree stores its weight and value sums, so a run of items that
+    // all fit is skipped in one O(log n) descent. It also stores the smallest
+    // "blocking" weight (indivisible items only), so indivisible items that do
+    // not fit are jumped over too. add, remove and loadValue are O(log n) when
+    // every item is divisible, plus O(log n) per indivisible item skipped.
+    // load also pays O(1) per Taken it returns. An item's fields are read when
+    // it is added; after changing an item, remove it and add it again.
+    static class IncrementalKnapsack {
+        static class Node {
+            Item item;
+            double weight, value, ratio;
+            boolean divisible;
+            long seq;      // arrival number, breaks ratio ties like a stable sort
+            int priority;
+            Node left, right;
+            int size;
+            double sumWeight, sumValue;
+            double minBlocking; // smallest weight of an indivisible item, -inf if any divisible
+
+            Node(Item it, long seq, int priority) {
+                this.item = it;
+                this.weight = it.weight;
+                this.value = it.value;
+                this.ratio = it.ratio;
+                this.divisible = it.divisible;
+                this.seq = seq;
+                this.priority = priority;
+                update(this);
+            }
+        }
+
+        private final Map<Item, Node> nodes = new IdentityHashMap<>();
+        private final Random rand = new Random(42);
+        private long arrivals;
+        private Node root;
+
+        public int size() {
+            return nodes.size();
+        }
+
+        public void add(Item it) {
+            if (nodes.containsKey(it)) throw new IllegalArgumentException(it.name + " is already in the depot");
+            Node node = new Node(it, arrivals++, rand.nextInt());
+            nodes.put(it, node);
+            Node[] parts = split(root, node);
+            root = merge(merge(parts[0], node), parts[1]);
+        }
+
+        public boolean remove(Item it) {
+            Node node = nodes.remove(it);
+            if (node == null) return false;
+            root = erase(root, node);
+            return true;
+        }
+
+        public List<Taken> load(double capacity) {
+            List<Taken> takenList = new ArrayList<>();
+            walk(capacity, takenList);
+            return takenList;
+        }
+
+        public double loadValue(double capacity) {
+            return walk(capacity, null);
+        }
+
+        // The greedy of solveFractional, one run of fitting items at a time:
+        // jump to the next item that would be taken, take the longest run
+        // that fits whole, then cut the divisible item after it or skip the
+        // indivisible one.
+        private double walk(double capacity, List<Taken> out) {
+            int n = size();
+            double remaining = capacity;
+            double total = 0;
+            int p = 0;
+            while (remaining > 1e-9) {
+                p = firstTaken(root, 0, p, remaining);
+                if (p < 0) break;
+                double weightBefore = prefix(root, p, false);
+                int end = Math.max(p, fitting(root, weightBefore + remaining));
+                if (end > p) {
+                    if (out != null) collect(root, 0, p, end, out);
+                    remaining -= prefix(root, end, false) - weightBefore;
+                    total += prefix(root, end, true) - prefix(root, p, true);
+                }
+                if (end == n || remaining <= 1e-9) break;
+                Node next = select(root, end);
+                if (next.divisible) {
+                    double frac = remaining / next.weight;
+                    if (out != null) out.add(new Taken(next.item.name, remaining, next.value * frac, frac));
+                    total += next.value * frac;
+                    break;
+                }
+                p = end + 1; // indivisible and too heavy
+            }
+            return total;
+        }
+
+        // true if a goes before b in solveFractional's order
+        static boolean before(Node a, Node b) {
+            int c = Double.compare(b.ratio, a.ratio);
+            return c != 0 ? c < 0 : a.seq < b.seq;
+        }
+
+        static int size(Node t) {
+            return t == null ? 0 : t.size;
+        }
+
+        static double sumWeight(Node t) {
+            return t == null ? 0 : t.sumWeight;
+        }
+
+        static double sumValue(Node t) {
+            return t == null ? 0 : t.sumValue;
+        }
+
+        static void update(Node t) {
+            t.size = 1 + size(t.left) + size(t.right);
+            t.sumWeight = t.weight + sumWeight(t.left) + sumWeight(t.right);
+            t.sumValue = t.value + sumValue(t.left) + sumValue(t.right);
+            double min = t.divisible ? Double.NEGATIVE_INFINITY : t.weight;
+            if (t.left != null) min = Math.min(min, t.left.minBlocking);
+            if (t.right != null) min = Math.min(min, t.right.minBlocking);
+            t.minBlocking = min;
+        }
+
+        // {nodes before key, the rest}
+        static Node[] split(Node t, Node key) {
+            if (t == null) return new Node[2];
+            if (before(t, key)) {
+                Node[] parts = split(t.right, key);
+                t.right = parts[0];
+                update(t);
+                parts[0] = t;
+                return parts;
+            }
+            Node[] parts = split(t.left, key);
+            t.left = parts[1];
+            update(t);
+            parts[1] = t;
+            return parts;
+        }
+
+        static Node merge(Node a, Node b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            if (a.priority > b.priority) {
+                a.right = merge(a.right, b);
+                update(a);
+                return a;
+            }
+            b.left = merge(a, b.left);
+            update(b);
+            return b;
+        }
+
+        static Node erase(Node t, Node key) {
+            if (t == key) return merge(t.left, t.right);
+            if (before(key, t)) t.left = erase(t.left, key);
+            else t.right = erase(t.right, key);
+            update(t);
+            return t;
+        }
+
+        // sum of weight (or value) over the first k items
+        static double prefix(Node t, int k, boolean value) {
+            double sum = 0;
+            while (t != null && k > 0) {
+                int leftSize = size(t.left);
+                if (k <= leftSize) {
+                    t = t.left;
+                } else {
+                    sum += value ? sumValue(t.left) + t.value : sumWeight(t.left) + t.weight;
+                    k -= leftSize + 1;
+                    t = t.right;
+                }
+            }
+            return sum;
+        }
+
+        // number of leading items whose total weight is at most limit
+        static int fitting(Node t, double limit) {
+            int count = 0;
+            double sum = 0;
+            while (t != null) {
+                double upTo = sum + sumWeight(t.left) + t.weight;
+                if (upTo <= limit) {
+                    sum = upTo;
+                    count += size(t.left) + 1;
+                    t = t.right;
+                } else {
+                    t = t.left;
+                }
+            }
+            return count;
+        }
+
+        // first position >= from whose item the greedy would take with
+        // remaining capacity left (any divisible item, or an indivisible one
+        // that fits); -1 if none
+        static int firstTaken(Node t, int offset, int from, double remaining) {
+            if (t == null || t.minBlocking > remaining) return -1;
+            int pos = offset + size(t.left);
+            if (from < pos) {
+                int found = firstTaken(t.left, offset, from, remaining);
+                if (found >= 0) return found;
+            }
+            if (pos >= from && (t.divisible || t.weight <= remaining)) return pos;
+            return firstTaken(t.right, pos + 1, from, remaining);
+        }
+
+        static Node select(Node t, int k) {
+            while (true) {
+                int leftSize = size(t.left);
+                if (k < leftSize) {
+                    t = t.left;
+                } else if (k == leftSize) {
+                    return t;
+                } else {
+                    k -= leftSize + 1;
+                    t = t.right;
+                }
+            }
+        }
+
+        // appends items at positions [from, to) taken whole
+        static void collect(Node t, int offset, int from, int to, List<Taken> out) {
+            if (t == null || from >= offset + t.size || to <= offset) return;
+            int pos = offset + size(t.left);
+            collect(t.left, offset, from, to, out);
+            if (pos >= from && pos < to) out.add(new Taken(t.item.name, t.weight, t.value, 1.0));
+            collect(t.right, pos + 1, from, to, out);
+        }
+    }
+
+    // java FractionalKnapsackSimple live [items] [operations] - incremental vs re-solving
+    static void incrementalReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int ops = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        Random rand = new Random(42);
+        Set<Item> depot = new LinkedHashSet<>(); // arrival order, as solveFractional would see it
+        List<Item> present = new ArrayList<>();
+        IncrementalKnapsack live = new IncrementalKnapsack();
+        int made = 0;
+        for (; made < n; made++) {
+            Item it = randomItem(rand, made);
+            depot.add(it);
+            present.add(it);
+            live.add(it);
+        }
+
+        long liveNs = 0, resolveNs = 0;
+        int queries = 0, mismatches = 0;
+        for (int op = 0; op < ops; op++) {
+            int kind = rand.nextInt(3);
+            if (kind == 0) {
+                Item it = randomItem(rand, made++);
+                long t0 = System.nanoTime();
+                live.add(it);
+                liveNs += System.nanoTime() - t0;
+                depot.add(it);
+                present.add(it);
+            } else if (kind == 1 && !present.isEmpty()) {
+                int i = rand.nextInt(present.size());
+                Item it = present.get(i);
+                present.set(i, present.get(present.size() - 1));
+                present.remove(present.size() - 1);
+                long t0 = System.nanoTime();
+                live.remove(it);
+                liveNs += System.nanoTime() - t0;
+                depot.remove(it);
+            } else {
+                double capacity = rand.nextDouble() * 2000;
+                long t0 = System.nanoTime();
+                List<Taken> a = live.load(capacity);
+                long t1 = System.nanoTime();
+                List<Taken> b = solveFractional(new ArrayList<>(depot), capacity);
+                long t2 = System.nanoTime();
+                liveNs += t1 - t0;
+                resolveNs += t2 - t1;
+                queries++;
+                if (!sameLoad(a, b)) mismatches++;
+            }
+        }
+        System.out.printf("%,d items, %d operations (%d load queries)%n", n, ops, queries);
+        System.out.printf("Incremental : %8.2f ms for all operations%n", liveNs / 1e6);
+        System.out.printf("Re-solving  : %8.2f ms for the queries alone%n", resolveNs / 1e6);
+        System.out.printf("Loads differing from solveFractional: %d%n", mismatches);
+    }
+
+    static Item randomItem(Random rand, int i) {
+        double w = 1 + rand.nextDouble() * 99;
+        return new Item("Item_" + i, w, w * (0.5 + rand.nextDouble()), rand.nextInt(4) != 0);
+    }
+
+    // same items in the same order, with amounts equal up to rounding
+    static boolean sameLoad(List<Taken> a, List<Taken> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            Taken x = a.get(i), y = b.get(i);
+            if (!x.name.equals(y.name) || Math.abs(x.takenWeight - y.takenWeight) > 1e-6
+                    || Math.abs(x.valueGained - y.valueGained) > 1e-6 || Math.abs(x.fraction - y.fraction) > 1e-9)
+                return false;
+        }
+        return true;
+    }
+
+    // ---------- EXACT MIXED SOLVER (BRANCH & BOUND) ----------
+    static class ExactResult {
+        List<Taken> taken;
+        double value;
+        boolean optimal; // false if a budget ran out before the search finished
+        long nodes;
+
+        ExactResult(List<Taken> taken, double value, boolean optimal, long nodes) {
+            this.taken = taken;
+            this.value = value;
+            this.optimal = optimal;
+            this.nodes = nodes;
+        }
+    }
+
+    // search tree node: the first k indivisible items (in ratio order) are decided
+    static class Node {
+        int k;
+        double weight, value, bound;
+        boolean took;  // decision on indivisible item k-1
+        Node parent;
+
+        Node(int k, double weight, double value, boolean took, Node parent) {
+            this.k = k;
+            this.weight = weight;
+            this.value = value;
+            this.took = took;
+            this.parent = parent;
+        }
+    }
+
+    // Best-first branch and bound over the indivisible items. A node's upper
+    // bound is the greedy fractional fill used by solveFractional with every
+    // undecided item treated as divisible. Its lower bound is the same greedy
+    // taking undecided indivisible items only if they fit. The search starts
+    // from solveFractional's own answer as the incumbent and returns the best
+    // solution found if maxNodes or maxMillis runs out. The caller's list is
+    // not reordered.
+    public static ExactResult solveExact(List<Item> items, double capacity, long maxNodes, long maxMillis) {
+        long deadline = System.currentTimeMillis() + maxMillis;
+        List<Item> order = new ArrayList<>(items);
+        order.sort((a, b) -> Double.compare(b.ratio, a.ratio));
+        int n = order.size();
+        int[] rank = new int[n]; // position among indivisible items, -1 if divisible
+        List<Integer> indivisible = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            rank[i] = order.get(i).divisible ? -1 : indivisible.size();
+            if (!order.get(i).divisible) indivisible.add(i);
+        }
+        int m = indivisible.size();
+
+        // incumbent: the heuristic answer, as the set of indivisible items it takes
+        boolean[] best = new boolean[m];
+        boolean[] scratch = new boolean[m];
+        double bestValue = greedyFill(order, rank, 0, capacity, 0, best);
+
+        PriorityQueue<Node> pq = new PriorityQueue<>((a, b) -> Double.compare(b.bound, a.bound));
+        Node root = new Node(0, 0, 0, false, null);
+        root.bound = relaxedBound(order, rank, root, capacity);
+        pq.add(root);
+        long nodes = 0;
+        boolean optimal = true;
+
+        while (!pq.isEmpty()) {
+            Node node = pq.poll();
+            if (node.bound <= bestValue + 1e-9) break; // nothing left can beat the incumbent
+            if (++nodes > maxNodes || System.currentTimeMillis() > deadline) {
+                optimal = false;
+                break;
+            }
+            if (node.k == m) continue;
+            Item it = order.get(indivisible.get(node.k));
+            Node[] children = {
+                    it.weight <= capacity - node.weight + 1e-9
+                            ? new Node(node.k + 1, node.weight + it.weight, node.value + it.value, true, node) : null,
+                    new Node(node.k + 1, node.weight, node.value, false, node)
+            };
+            for (Node child : children) {
+                if (child == null) continue;
+                child.bound = relaxedBound(order, rank, child, capacity);
+                if (child.bound <= bestValue + 1e-9) continue;
+                Arrays.fill(scratch, false);
+                double value = greedyFill(order, rank, child.k, capacity - child.weight, child.value, scratch);
+                if (value > bestValue) {
+                    bestValue = value;
+                    for (Node p = child; p.parent != null; p = p.parent) scratch[p.k - 1] = p.took;
+                    System.arraycopy(scratch, 0, best, 0, m);
+                }
+                pq.add(child);
+            }
+        }
+
+        // rebuild the load: chosen indivisible items whole, divisible ones greedily
+        List<Taken> taken = new ArrayList<>();
+        double remaining = capacity;
+        for (int i = 0; i < n; i++) {
+            if (rank[i] >= 0 && best[rank[i]]) remaining -= order.get(i).weight;
+        }
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            Item it = order.get(i);
+            if (rank[i] >= 0) {
+                if (best[rank[i]]) {
+                    taken.add(new Taken(it.name, it.weight, it.value, 1.0));
+                    total += it.value;
+                }
+            } else if (remaining > 1e-9) {
+                double w = Math.min(it.weight, remaining);
+                taken.add(new Taken(it.name, w, it.value * w / it.weight, w / it.weight));
+                total += it.value * w / it.weight;
+                remaining -= w;
+            }
+        }
+        return new ExactResult(taken, total, optimal, nodes);
+    }
+
+    // Greedy fill with every undecided item allowed to be split (upper bound)
+    static double relaxedBound(List<Item> order, int[] rank, Node node, double capacity) {
+        double remaining = capacity - node.weight;
+        double value = node.value;
+        for (int i = 0; i < order.size() && remaining > 1e-9; i++) {
+            if (rank[i] >= 0 && rank[i] < node.k) continue; // already decided
+            Item it = order.get(i);
+            double w = Math.min(it.weight, remaining);
+            value += it.value * w / it.weight;
+            remaining -= w;
+        }
+        return value;
+    }
+
+    // solveFractional's greedy on the undecided items (a feasible load);
+    // marks the indivisible items it takes in chosen
+    static double greedyFill(List<Item> order, int[] rank, int k, double remaining, double value, boolean[] chosen) {
+        for (int i = 0; i < order.size() && remaining > 1e-9; i++) {
+            Item it = order.get(i);
+            if (rank[i] < 0) {
+                double w = Math.min(it.weight, remaining);
+                value += it.value * w / it.weight;
+                remaining -= w;
+            } else if (rank[i] >= k && it.weight <= remaining) {
+                value += it.value;
+                remaining -= it.weight;
+                chosen[rank[i]] = true;
+            }
+        }
+        return value;
+    }
+
+    // java FractionalKnapsackSimple bnb [items] - heuristic vs exact on random items
+    static void branchAndBoundReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        Random rand = new Random(42);
+        List<Item> items = new ArrayList<>();
+        double totalWeight = 0;
+        for (int i = 0; i < n; i++) {
+            double w = 1 + rand.nextDouble() * 99;
+            // roughly value-proportional weights make the bound tight, like real cargo
+            items.add(new Item("Item_" + i, w, w * (0.8 + rand.nextDouble() * 0.4), rand.nextInt(4) != 0));
+            totalWeight += w;
+        }
+        double capacity = totalWeight / 3;
+
+        long t0 = System.nanoTime();
+        double greedy = 0;
+        for (Taken t : solveFractional(new ArrayList<>(items), capacity)) greedy += t.valueGained;
+        long t1 = System.nanoTime();
+        ExactResult exact = solveExact(items, capacity, 1_000_000, 1000);
+        long t2 = System.nanoTime();
+
+        System.out.printf("%d items (about 25%% indivisible), capacity %.1f%n", n, capacity);
+        System.out.printf("Greedy heuristic : value %.3f in %.2f ms%n", greedy, (t1 - t0) / 1e6);
+        System.out.printf("Branch and bound : value %.3f in %.2f ms, %d nodes, %s%n",
+                exact.value, (t2 - t1) / 1e6, exact.nodes, exact.optimal ? "optimal" : "budget reached");
+    }
+
     // Utility to print results
     public static void printResult(List<Taken> taken, double capacity) {
         double totalWeight = 0;
@@ -93,6 +704,18 @@ public class FractionalKnapsackSimple {
 
     // Demo example
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bnb")) {
+            branchAndBoundReport(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("select")) {
+            selectionReport(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("live")) {
+            incrementalReport(args);
+            return;
+        }
         double W = 50.0; // boat capacity in kg
 
         List<Item> items = new ArrayList<>();
@@ -103,8 +726,13 @@ public class FractionalKnapsackSimple {
         items.add(new Item("Blankets", 10, 20, false));    // indivisible
         items.add(new Item("Fuel", 5, 8, true));           // divisible
 
+        ExactResult exact = solveExact(items, W, 1_000_000, 1000);
+
         List<Taken> result = solveFractional(items, W);
         printResult(result, W);
+
+        System.out.println("\nExact (branch and bound):");
+        printResult(exact.taken, W);
     }
 }
 
@@ -63,8 +63,15 @@ public class SmartAmbulanceDirected {
 
         // Dijkstra's algorithm for shortest path
         void dijkstra(int src, Set<Integer> hospitals) {
-            int[] dist = new int[n];
             int[] parent = new int[n];
+            int[] dist = shortestTimes(src, parent);
+            printRoutes(src, hospitals, dist, parent);
+        }
+
+        // Travel time from src to every node (Integer.MAX_VALUE if unreachable);
+        // fills parent with the previous node on each shortest path
+        int[] shortestTimes(int src, int[] parent) {
+            int[] dist = new int[n];
             boolean[] visited = new boolean[n];
 
             Arrays.fill(dist, Integer.MAX_VALUE);
@@ -92,7 +99,10 @@ public class SmartAmbulanceDirected {
                     }
                 }
             }
+            return dist;
+        }
 
+        void printRoutes(int src, Set<Integer> hospitals, int[] dist, int[] parent) {
             System.out.println("\nShortest travel times from Source (" + src + "):");
             for (int i = 0; i < n; i++) {
                 System.out.println("To node " + i + " : " +
@@ -140,7 +150,255 @@ public class SmartAmbulanceDirected {
         }
     }
 
+    // ---------- CSR ROUTING ENGINE ----------
+    // Read-only copy of a Graph for city-scale routing. The edges of node u
+    // are targets/times[offsets[u] .. offsets[u + 1]), in the order they were
+    // added, so there is no object per edge. Queries run on a Router that
+    // owns its buffers; router() gives each thread its own, so a query
+    // allocates nothing after the first one on a thread.
+    static class RoadNetwork {
+        final int n;
+        final int[] offsets;
+        final int[] targets;
+        final int[] times;
+        private final ThreadLocal<Router> routers = ThreadLocal.withInitial(() -> new Router(this));
+
+        RoadNetwork(Graph g) {
+            n = g.n;
+            offsets = new int[n + 1];
+            for (int u = 0; u < n; u++) offsets[u + 1] = offsets[u] + g.adj.get(u).size();
+            targets = new int[offsets[n]];
+            times = new int[offsets[n]];
+            for (int u = 0; u < n; u++) {
+                int i = offsets[u];
+                for (Edge e : g.adj.get(u)) {
+                    targets[i] = e.to;
+                    times[i++] = e.time;
+                }
+            }
+        }
+
+        // Traffic update in place; false if there is no such road
+        boolean updateEdge(int from, int to, int newTime) {
+            for (int i = offsets[from]; i < offsets[from + 1]; i++) {
+                if (targets[i] == to) {
+                    times[i] = newTime;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Router router() {
+            return routers.get();
+        }
+    }
+
+    // Dijkstra over a RoadNetwork with an indexed 4-ary min-heap of node ids
+    // keyed by dist. A node sits in the heap at most once and an improved
+    // distance moves it up (decrease-key), so the heap never holds stale
+    // entries. Buffers are stamped with the query number instead of cleared,
+    // so a query only touches the nodes it reaches. Not thread-safe; use one
+    // Router per thread.
+    static class Router {
+        final RoadNetwork net;
+        final int[] dist;
+        final int[] parent;
+        final int[] stamp;    // dist/parent/heapPos of v are valid iff stamp[v] == query
+        final int[] heapPos;  // index in heap, -1 once settled
+        final int[] heap;
+        int heapSize;
+        int query;
+
+        Router(RoadNetwork net) {
+            this.net = net;
+            dist = new int[net.n];
+            parent = new int[net.n];
+            stamp = new int[net.n];
+            heapPos = new int[net.n];
+            heap = new int[net.n];
+        }
+
+        // Full single-source run, same distances as Graph.shortestTimes;
+        // returns the number of reachable nodes
+        int shortestPaths(int src) {
+            start(src);
+            int settled = 0;
+            while (heapSize > 0) {
+                relaxFrom(pop());
+                settled++;
+            }
+            return settled;
+        }
+
+        // Runs until the first target is settled; returns it, or -1 if no
+        // target is reachable
+        int nearest(int src, boolean[] isTarget) {
+            start(src);
+            while (heapSize > 0) {
+                int u = pop();
+                if (isTarget[u]) return u;
+                relaxFrom(u);
+            }
+            return -1;
+        }
+
+        // Travel time from the last query's source (Integer.MAX_VALUE if not reached)
+        int distance(int v) {
+            return stamp[v] == query ? dist[v] : Integer.MAX_VALUE;
+        }
+
+        List<Integer> path(int dest) {
+            List<Integer> path = new ArrayList<>();
+            if (stamp[dest] != query) return path;
+            for (int cur = dest; cur != -1; cur = parent[cur]) path.add(cur);
+            Collections.reverse(path);
+            return path;
+        }
+
+        void start(int src) {
+            if (++query == 0) { // stamps wrapped around
+                Arrays.fill(stamp, 0);
+                query = 1;
+            }
+            stamp[src] = query;
+            dist[src] = 0;
+            parent[src] = -1;
+            heap[0] = src;
+            heapPos[src] = 0;
+            heapSize = 1;
+        }
+
+        void relaxFrom(int u) {
+            int d = dist[u];
+            int[] targets = net.targets, times = net.times;
+            for (int i = net.offsets[u], end = net.offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                int newDist = d + times[i];
+                if (stamp[v] != query) {
+                    stamp[v] = query;
+                    dist[v] = newDist;
+                    parent[v] = u;
+                    heap[heapSize] = v;
+                    heapPos[v] = heapSize;
+                    siftUp(heapSize++);
+                } else if (newDist < dist[v] && heapPos[v] >= 0) {
+                    dist[v] = newDist;
+                    parent[v] = u;
+                    siftUp(heapPos[v]);
+                }
+            }
+        }
+
+        int pop() {
+            int top = heap[0];
+            heapPos[top] = -1;
+            int last = heap[--heapSize];
+            if (heapSize > 0) {
+                heap[0] = last;
+                heapPos[last] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        void siftUp(int i) {
+            int v = heap[i];
+            int d = dist[v];
+            while (i > 0) {
+                int p = (i - 1) >> 2;
+                int w = heap[p];
+                if (dist[w] <= d) break;
+                heap[i] = w;
+                heapPos[w] = i;
+                i = p;
+            }
+            heap[i] = v;
+            heapPos[v] = i;
+        }
+
+        void siftDown(int i) {
+            int v = heap[i];
+            int d = dist[v];
+            while (true) {
+                int first = 4 * i + 1;
+                if (first >= heapSize) break;
+                int best = first;
+                int end = Math.min(first + 4, heapSize);
+                for (int c = first + 1; c < end; c++) {
+                    if (dist[heap[c]] < dist[heap[best]]) best = c;
+                }
+                if (dist[heap[best]] >= d) break;
+                heap[i] = heap[best];
+                heapPos[heap[i]] = i;
+                i = best;
+            }
+            heap[i] = v;
+            heapPos[v] = i;
+        }
+    }
+
+    // side x side road grid, a one-way street each way between neighbours
+    static Graph roadGrid(int side, long seed) {
+        Random rand = new Random(seed);
+        Graph g = new Graph(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int u = r * side + c;
+                if (c + 1 < side) {
+                    g.addEdge(u, u + 1, 1 + rand.nextInt(10));
+                    g.addEdge(u + 1, u, 1 + rand.nextInt(10));
+                }
+                if (r + 1 < side) {
+                    g.addEdge(u, u + side, 1 + rand.nextInt(10));
+                    g.addEdge(u + side, u, 1 + rand.nextInt(10));
+                }
+            }
+        }
+        return g;
+    }
+
+    // java SmartAmbulanceDirected grid [side] [queries]
+    static void routingReport(String[] args) {
+        int side = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        Graph g = roadGrid(side, 42);
+        RoadNetwork net = new RoadNetwork(g);
+        Router router = net.router();
+        Random rand = new Random(7);
+        int[] sources = new int[queries];
+        for (int q = 0; q < queries; q++) sources[q] = rand.nextInt(g.n);
+        boolean[] hospital = new boolean[g.n];
+        for (int h = 0; h < 20; h++) hospital[rand.nextInt(g.n)] = true;
+        System.out.printf("%dx%d grid: %,d intersections, %,d roads, %d queries%n", side, side, g.n, net.targets.length, queries);
+
+        int[] parent = new int[g.n];
+        boolean same = true;
+        long listNs = 0, csrNs = 0;
+        for (int q = 0; q < queries; q++) {
+            long t0 = System.nanoTime();
+            int[] dist = g.shortestTimes(sources[q], parent);
+            long t1 = System.nanoTime();
+            router.shortestPaths(sources[q]);
+            long t2 = System.nanoTime();
+            listNs += t1 - t0;
+            csrNs += t2 - t1;
+            for (int v = 0; v < g.n && same; v++) same = dist[v] == router.distance(v);
+        }
+        System.out.printf("  List<Edge> + PriorityQueue : %8.1f queries/s%n", queries / (listNs / 1e9));
+        System.out.printf("  CSR + indexed 4-ary heap   : %8.1f queries/s (same distances %b)%n", queries / (csrNs / 1e9), same);
+
+        long t0 = System.nanoTime();
+        for (int q = 0; q < queries; q++) router.nearest(sources[q], hospital);
+        long t1 = System.nanoTime();
+        System.out.printf("  nearest of 20 hospitals    : %8.1f queries/s (stops at the first one)%n", queries / ((t1 - t0) / 1e9));
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("grid")) {
+            routingReport(args);
+            return;
+        }
         Scanner sc = new Scanner(System.in);
         Graph g = new Graph(6);
 
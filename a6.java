@@ -1,4 +1,7 @@
+import java.lang.management.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 public class DisasterReliefKnapsack {
 
@@ -56,7 +59,517 @@ public class DisasterReliefKnapsack {
         return new Result(dp[n][W], chosen);
     }
 
+    // Same optimum as solveKnapsack with one rolling dp row (capacity walked
+    // downwards so each item is used at most once). The choices are kept as
+    // one bit per (item, capacity): 4(W+1) bytes + n(W+1)/8 bytes instead of
+    // 4(n+1)(W+1), and the chosen items are the same as solveKnapsack's.
+    static Result solveKnapsackCompact(Item[] items, int W) {
+        int n = items.length;
+        int[] dp = new int[W + 1];
+        long[][] took = new long[n][(W >> 6) + 1];
+
+        for (int i = 0; i < n; i++) {
+            int wt = items[i].weight;
+            int val = items[i].utility;
+            long[] bits = took[i];
+            for (int w = W; w >= wt; w--) {
+                int with = dp[w - wt] + val;
+                if (with > dp[w]) {
+                    dp[w] = with;
+                    bits[w >> 6] |= 1L << w;
+                }
+            }
+        }
+
+        List<Item> chosen = new ArrayList<>();
+        int w = W;
+        for (int i = n - 1; i >= 0; i--) {
+            if ((took[i][w >> 6] & (1L << w)) != 0) {
+                chosen.add(items[i]);
+                w -= items[i].weight;
+            }
+        }
+        Collections.reverse(chosen);
+        return new Result(dp[W], chosen);
+    }
+
+    // Hirschberg-style divide and conquer: solve each half of the items for
+    // every capacity, pick the best split of W between the halves, recurse.
+    // Only O(W) ints are live at a time and the total work stays O(nW)
+    // (about twice the plain DP). May pick a different but equally good set.
+    static Result solveKnapsackLowMemory(Item[] items, int W) {
+        List<Item> chosen = new ArrayList<>();
+        chooseItems(items, 0, items.length, W, chosen);
+        int total = 0;
+        for (Item item : chosen) total += item.utility;
+        return new Result(total, chosen);
+    }
+
+    static void chooseItems(Item[] items, int lo, int hi, int W, List<Item> chosen) {
+        if (hi - lo == 1) {
+            if (items[lo].weight <= W && items[lo].utility > 0) chosen.add(items[lo]);
+            return;
+        }
+        if (hi <= lo) return; // the single-item case above handles W = 0 and zero-weight items
+        int mid = (lo + hi) >>> 1;
+        int c = bestSplit(items, lo, mid, hi, W);
+        chooseItems(items, lo, mid, c, chosen);
+        chooseItems(items, mid, hi, W - c, chosen);
+    }
+
+    // capacity to give items [lo, mid); the rest goes to [mid, hi)
+    static int bestSplit(Item[] items, int lo, int mid, int hi, int W) {
+        int[] left = bestByCapacity(items, lo, mid, W);
+        int[] right = bestByCapacity(items, mid, hi, W);
+        int best = 0;
+        for (int c = 1; c <= W; c++) {
+            if (left[c] + right[W - c] > left[best] + right[W - best]) best = c;
+        }
+        return best;
+    }
+
+    // dp[c] = best utility of items [lo, hi) within capacity c
+    static int[] bestByCapacity(Item[] items, int lo, int hi, int W) {
+        int[] dp = new int[W + 1];
+        for (int i = lo; i < hi; i++) {
+            int wt = items[i].weight;
+            int val = items[i].utility;
+            for (int w = W; w >= wt; w--) dp[w] = Math.max(dp[w], dp[w - wt] + val);
+        }
+        return dp;
+    }
+
+    // Parallel version of solveKnapsackCompact. Row i only reads row i-1, so
+    // each thread fills its own slice of capacities from the previous row and
+    // all threads meet at a barrier before the next item. Slices are whole
+    // 64-capacity words, so no two threads write the same word of the
+    // decision bitset. Chooses the same items as solveKnapsack. A thread that
+    // fails still meets the others at the barrier, then all of them stop, so
+    // an error ends the solve instead of leaving threads waiting forever.
+    static Result solveKnapsackParallel(Item[] items, int W, int threads) {
+        int n = items.length;
+        int[][] rows = {new int[W + 1], new int[W + 1]};
+        int words = (W >> 6) + 1;
+        long[][] took = new long[n][words];
+        int wordsPerThread = (words + threads - 1) / threads;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int from = t * wordsPerThread * 64;
+            int to = Math.min(W, (t + 1) * wordsPerThread * 64 - 1);
+            tasks.add(() -> {
+                for (int i = 0; i < n; i++) {
+                    int[] prev = rows[i & 1], cur = rows[(i + 1) & 1];
+                    int wt = items[i].weight;
+                    int val = items[i].utility;
+                    long[] bits = took[i];
+                    try {
+                        for (int w = from; w <= to; w++) {
+                            if (wt <= w && prev[w - wt] + val > prev[w]) {
+                                cur[w] = prev[w - wt] + val;
+                                bits[w >> 6] |= 1L << w;
+                            } else {
+                                cur[w] = prev[w];
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                    barrier.await();
+                    if (failure.get() != null) break;
+                }
+                return null;
+            });
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Knapsack solve interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Knapsack solve failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        if (failure.get() != null) throw new IllegalStateException("Knapsack solve failed", failure.get());
+
+        List<Item> chosen = new ArrayList<>();
+        int w = W;
+        for (int i = n - 1; i >= 0; i--) {
+            if ((took[i][w >> 6] & (1L << w)) != 0) {
+                chosen.add(items[i]);
+                w -= items[i].weight;
+            }
+        }
+        Collections.reverse(chosen);
+        return new Result(rows[n & 1][W], chosen);
+    }
+
+    // java DisasterReliefKnapsack parallel [items] [W] [max threads]
+    static void parallelReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int W = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        int maxThreads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        Item[] items = randomItems(n, Math.max(2, W / 10), 42);
+
+        // the full table would need 4nW bytes here, so the baseline is the rolling-row loop
+        long t0 = System.currentTimeMillis();
+        Result base = solveKnapsackCompact(items, W);
+        long seq = System.currentTimeMillis() - t0;
+        System.out.printf("n = %d, W = %,d%n  sequential : %6d ms (utility %d)%n", n, W, seq, base.maxUtility);
+
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            t0 = System.currentTimeMillis();
+            Result res = solveKnapsackParallel(items, W, threads);
+            long ms = System.currentTimeMillis() - t0;
+            System.out.printf("  %2d threads : %6d ms, speedup %.2fx, same result %b%n",
+                    threads, ms, (double) seq / Math.max(1, ms),
+                    res.maxUtility == base.maxUtility && res.chosenItems.equals(base.chosenItems));
+            if (threads == maxThreads) break;
+        }
+    }
+
+    // ---------- MULTI-TRUCK PLANNING ----------
+    // Immutable item catalog that plans loads without touching the caller's
+    // items. The perishable bonus is a parameter of each plan rather than an
+    // edit to item.utility. One rolling dp pass up to the largest capacity
+    // holds the optimum for every smaller capacity as well, so any number of
+    // trucks costs one solve plus an O(n) reconstruction per truck.
+    static final class Catalog {
+        private final String[] name;
+        private final int[] weight;
+        private final int[] utility;
+        private final boolean[] perishable;
+
+        Catalog(Item[] items) {
+            int n = items.length;
+            name = new String[n];
+            weight = new int[n];
+            utility = new int[n];
+            perishable = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                name[i] = items[i].name;
+                weight[i] = items[i].weight;
+                utility[i] = items[i].utility;
+                perishable[i] = items[i].perishable;
+            }
+        }
+
+        // One Result per capacity, in the same order. Chosen items are fresh
+        // copies whose utility includes the bonus used for the plan.
+        List<Result> plan(int[] capacities, int perishableBonus) {
+            int n = name.length;
+            int maxW = 0;
+            for (int c : capacities) {
+                if (c < 0) throw new IllegalArgumentException("Negative truck capacity: " + c);
+                maxW = Math.max(maxW, c);
+            }
+            int[] value = new int[n];
+            for (int i = 0; i < n; i++) value[i] = utility[i] + (perishable[i] ? perishableBonus : 0);
+
+            int[] dp = new int[maxW + 1];
+            long[][] took = new long[n][(maxW >> 6) + 1];
+            for (int i = 0; i < n; i++) {
+                int wt = weight[i];
+                long[] bits = took[i];
+                for (int w = maxW; w >= wt; w--) {
+                    int with = dp[w - wt] + value[i];
+                    if (with > dp[w]) {
+                        dp[w] = with;
+                        bits[w >> 6] |= 1L << w;
+                    }
+                }
+            }
+
+            List<Result> results = new ArrayList<>(capacities.length);
+            for (int c : capacities) {
+                List<Item> chosen = new ArrayList<>();
+                int w = c;
+                for (int i = n - 1; i >= 0; i--) {
+                    if ((took[i][w >> 6] & (1L << w)) != 0) {
+                        chosen.add(new Item(name[i], weight[i], value[i], perishable[i]));
+                        w -= weight[i];
+                    }
+                }
+                Collections.reverse(chosen);
+                results.add(new Result(dp[c], chosen));
+            }
+            return results;
+        }
+
+        Result plan(int capacity, int perishableBonus) {
+            return plan(new int[]{capacity}, perishableBonus).get(0);
+        }
+    }
+
+    // One planning run: a perishable bonus and the trucks to load
+    static class Scenario {
+        String name;
+        int perishableBonus;
+        int[] capacities;
+
+        Scenario(String name, int perishableBonus, int[] capacities) {
+            this.name = name;
+            this.perishableBonus = perishableBonus;
+            this.capacities = capacities;
+        }
+    }
+
+    // Plans every scenario against the shared catalog on a pool of threads;
+    // results are in scenario order
+    static List<List<Result>> planScenarios(Catalog catalog, List<Scenario> scenarios, int threads) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Result>>> futures = new ArrayList<>();
+            for (Scenario s : scenarios)
+                futures.add(pool.submit(() -> catalog.plan(s.capacities, s.perishableBonus)));
+            List<List<Result>> results = new ArrayList<>();
+            for (Future<List<Result>> f : futures) results.add(f.get());
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Planning interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Planning failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // java DisasterReliefKnapsack trucks [items] [trucks] [max W] [scenarios]
+    static void trucksReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int trucks = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int maxW = args.length > 3 ? Integer.parseInt(args[3]) : 10_000;
+        int scenarioCount = args.length > 4 ? Integer.parseInt(args[4]) : 8;
+        Item[] items = randomItems(n, Math.max(2, maxW / 10), 42);
+        Catalog catalog = new Catalog(items);
+        Random rand = new Random(7);
+        int[] capacities = new int[trucks];
+        for (int t = 0; t < trucks; t++) capacities[t] = 1 + rand.nextInt(maxW);
+
+        long t0 = System.currentTimeMillis();
+        List<Result> batch = catalog.plan(capacities, 10);
+        long t1 = System.currentTimeMillis();
+        boolean same = true;
+        for (int t = 0; t < trucks; t++) {
+            Item[] boosted = new Item[n];
+            for (int i = 0; i < n; i++)
+                boosted[i] = new Item(items[i].name, items[i].weight, items[i].utility + (items[i].perishable ? 10 : 0), items[i].perishable);
+            same &= solveKnapsackCompact(boosted, capacities[t]).maxUtility == batch.get(t).maxUtility;
+        }
+        long t2 = System.currentTimeMillis();
+        System.out.printf("%d items, %d trucks up to W = %,d%n", n, trucks, maxW);
+        System.out.printf("  one batched pass   : %6d ms%n", t1 - t0);
+        System.out.printf("  one solve per truck: %6d ms (same optimum %b)%n", t2 - t1, same);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int s = 0; s < scenarioCount; s++) scenarios.add(new Scenario("bonus " + 5 * s, 5 * s, capacities));
+        int threads = Runtime.getRuntime().availableProcessors();
+        t0 = System.currentTimeMillis();
+        List<List<Result>> plans = planScenarios(catalog, scenarios, threads);
+        t1 = System.currentTimeMillis();
+        System.out.printf("  %d scenarios on %d threads: %d ms%n", scenarioCount, threads, t1 - t0);
+        for (int s = 0; s < scenarioCount; s++) {
+            long total = 0;
+            for (Result res : plans.get(s)) total += res.maxUtility;
+            System.out.printf("    %-9s total utility %,d%n", scenarios.get(s).name, total);
+        }
+    }
+
+    // ---------- BOUNDED QUANTITIES ----------
+    static class BoundedResult {
+        int maxUtility;
+        int[] quantities; // units loaded of each item, same order as the input
+        BoundedResult(int maxUtility, int[] quantities) {
+            this.maxUtility = maxUtility;
+            this.quantities = quantities;
+        }
+    }
+
+    // Knapsack where item i is stocked counts[i] times. The count is split
+    // into bundles 1, 2, 4, ..., plus a remainder; every quantity 0..count is
+    // a sum of distinct bundles, so a 0/1 dp over the bundles is exact and
+    // costs O(W * sum log(count)) instead of O(W * sum count).
+    static BoundedResult solveBounded(Item[] items, int[] counts, int W) {
+        if (counts.length != items.length)
+            throw new IllegalArgumentException("Need one count per item");
+        List<int[]> bundles = new ArrayList<>(); // {item index, units}
+        for (int i = 0; i < items.length; i++) {
+            if (counts[i] < 0) throw new IllegalArgumentException("Negative count for " + items[i].name);
+            // units past W / weight can never fit
+            int left = items[i].weight == 0 ? counts[i] : Math.min(counts[i], W / items[i].weight);
+            for (int k = 1; left > 0; k <<= 1) {
+                int units = Math.min(k, left);
+                bundles.add(new int[]{i, units});
+                left -= units;
+            }
+        }
+
+        int m = bundles.size();
+        int[] dp = new int[W + 1];
+        long[][] took = new long[m][(W >> 6) + 1];
+        for (int b = 0; b < m; b++) {
+            Item item = items[bundles.get(b)[0]];
+            int units = bundles.get(b)[1];
+            int wt = item.weight * units;
+            int val = item.utility * units;
+            long[] bits = took[b];
+            for (int w = W; w >= wt; w--) {
+                int with = dp[w - wt] + val;
+                if (with > dp[w]) {
+                    dp[w] = with;
+                    bits[w >> 6] |= 1L << w;
+                }
+            }
+        }
+
+        int[] quantities = new int[items.length];
+        int w = W;
+        for (int b = m - 1; b >= 0; b--) {
+            if ((took[b][w >> 6] & (1L << w)) != 0) {
+                int[] bundle = bundles.get(b);
+                quantities[bundle[0]] += bundle[1];
+                w -= items[bundle[0]].weight * bundle[1];
+            }
+        }
+        return new BoundedResult(dp[W], quantities);
+    }
+
+    // Reference: one Item per unit, solved as a plain 0/1 knapsack
+    static BoundedResult solveBoundedByUnits(Item[] items, int[] counts, int W) {
+        List<Item> units = new ArrayList<>();
+        Map<Item, Integer> index = new IdentityHashMap<>();
+        for (int i = 0; i < items.length; i++) {
+            index.put(items[i], i);
+            for (int c = 0; c < counts[i]; c++) units.add(items[i]);
+        }
+        Result res = solveKnapsackCompact(units.toArray(new Item[0]), W);
+        int[] quantities = new int[items.length];
+        for (Item item : res.chosenItems) quantities[index.get(item)]++;
+        return new BoundedResult(res.maxUtility, quantities);
+    }
+
+    // java DisasterReliefKnapsack bounded [item types] [max count] [W]
+    static void boundedReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int maxCount = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+        int W = args.length > 3 ? Integer.parseInt(args[3]) : 5000;
+        Item[] items = randomItems(n, 50, 42);
+        Random rand = new Random(7);
+        int[] counts = new int[n];
+        long total = 0;
+        for (int i = 0; i < n; i++) total += counts[i] = 1 + rand.nextInt(maxCount);
+
+        long t0 = System.currentTimeMillis();
+        BoundedResult split = solveBounded(items, counts, W);
+        long t1 = System.currentTimeMillis();
+        BoundedResult naive = solveBoundedByUnits(items, counts, W);
+        long t2 = System.currentTimeMillis();
+        System.out.printf("%d item types, %,d units in stock, W = %,d%n", n, total, W);
+        System.out.printf("  binary bundles : %6d ms (utility %d)%n", t1 - t0, split.maxUtility);
+        System.out.printf("  one item / unit: %6d ms (utility %d)%n", t2 - t1, naive.maxUtility);
+        for (int i = 0; i < n; i++) {
+            if (split.quantities[i] > 0)
+                System.out.printf("  - %s x %d of %d (Weight: %d kg each)%n",
+                        items[i].name, split.quantities[i], counts[i], items[i].weight);
+        }
+    }
+
+    // ---------- CAPACITY REPORT ----------
+    static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    static Item[] randomItems(int n, int maxWeight, long seed) {
+        Random rand = new Random(seed);
+        Item[] items = new Item[n];
+        for (int i = 0; i < n; i++)
+            items[i] = new Item("Item_" + i, 1 + rand.nextInt(maxWeight), 1 + rand.nextInt(100), rand.nextBoolean());
+        return items;
+    }
+
+    // java DisasterReliefKnapsack check [instances] - every solver against solveKnapsack
+    // on small random instances, zero weights included
+    static void crossCheck(String[] args) {
+        int instances = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        Random rand = new Random(42);
+        int wrong = 0;
+        for (int t = 0; t < instances; t++) {
+            Item[] items = new Item[1 + rand.nextInt(12)];
+            for (int i = 0; i < items.length; i++)
+                items[i] = new Item("Item_" + i, rand.nextInt(8), rand.nextInt(20), rand.nextBoolean());
+            int W = rand.nextInt(25);
+            int best = solveKnapsack(items, W).maxUtility;
+            Result[] results = {solveKnapsackCompact(items, W), solveKnapsackLowMemory(items, W),
+                    solveKnapsackParallel(items, W, 2)};
+            for (Result res : results) {
+                int weight = 0, utility = 0;
+                for (Item item : res.chosenItems) {
+                    weight += item.weight;
+                    utility += item.utility;
+                }
+                if (res.maxUtility != best || utility != best || weight > W) wrong++;
+            }
+        }
+        System.out.printf("%d random instances, %d solver results off the optimum%n", instances, wrong);
+    }
+
+    // java DisasterReliefKnapsack capacity [items] [W]
+    // Largest W each solver fits in this heap (from its memory layout), then
+    // one timed run of each solver that fits at the given W.
+    static void capacityReport(String[] args) {
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int W = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        long heap = Runtime.getRuntime().maxMemory();
+        // bytes per unit of W: table rows of ints / one row + n bits / about three rows
+        double[] perW = {4.0 * (n + 1), 4 + n / 8.0, 12};
+        String[] names = {"Full table (solveKnapsack)", "Rolling row + bitset", "Divide and conquer"};
+
+        System.out.printf("Heap %d MB, %d items:%n", heap >> 20, n);
+        for (int s = 0; s < names.length; s++)
+            System.out.printf("  %-27s max W ~ %,d%n", names[s], (long) Math.min(Integer.MAX_VALUE - 1, heap * 0.8 / perW[s]));
+
+        Item[] items = randomItems(n, Math.max(2, W / 10), 42);
+        System.out.printf("%nW = %,d:%n", W);
+        for (int s = 0; s < names.length; s++) {
+            if (perW[s] * W > heap * 0.8) {
+                System.out.printf("  %-27s skipped, needs ~%d MB%n", names[s], (long) (perW[s] * W) >> 20);
+                continue;
+            }
+            long a0 = allocatedBytes();
+            long t0 = System.currentTimeMillis();
+            Result res = s == 0 ? solveKnapsack(items, W) : s == 1 ? solveKnapsackCompact(items, W) : solveKnapsackLowMemory(items, W);
+            long t1 = System.currentTimeMillis();
+            System.out.printf("  %-27s utility %d, %d items, %d ms, %d MB allocated%n",
+                    names[s], res.maxUtility, res.chosenItems.size(), t1 - t0, (allocatedBytes() - a0) >> 20);
+        }
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("capacity")) {
+            capacityReport(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("parallel")) {
+            parallelReport(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("check")) {
+            crossCheck(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("trucks")) {
+            trucksReport(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("bounded")) {
+            boundedReport(args);
+            return;
+        }
         Scanner sc = new Scanner(System.in);
         System.out.print("Enter truck capacity (kg): ");
         int W = sc.nextInt();
@@ -72,13 +585,11 @@ public class DisasterReliefKnapsack {
 
         // 🔹 Optional Priority Adjustment: Give perishable items slight bonus
         // (This helps prioritize medicines and food in real-world scenario)
-        for (Item item : items) {
-            if (item.perishable)
-                item.utility += 10; // small boost to priority
-        }
+        // The bonus is applied by the planner, so the items stay unchanged
+        Catalog catalog = new Catalog(items);
 
         // Solve using Dynamic Programming
-        Result res = solveKnapsack(items, W);
+        Result res = catalog.plan(W, 10); // small boost to priority
 
         System.out.println("\n✅ Optimal Utility Value = " + res.maxUtility);
         System.out.println("🚚 Items loaded into truck:");
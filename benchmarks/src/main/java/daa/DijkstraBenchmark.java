@@ -0,0 +1,72 @@
+package daa;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// SmartAmbulanceDirected.Graph.dijkstra on a side x side road grid with
+// one-way streets both ways and random travel times. dijkstra prints the
+// distance to every node, which is part of what is measured; shortestTimes
+// and csrShortestPaths are the same search without printing, on the list
+// graph and on the CSR RoadNetwork.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DijkstraBenchmark {
+
+    @Param({"100", "300"})
+    public int side;
+
+    SmartAmbulanceDirected.Graph graph;
+    Set<Integer> hospitals;
+    int[] parent;
+    SmartAmbulanceDirected.RoadNetwork network;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        graph = new SmartAmbulanceDirected.Graph(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int u = r * side + c;
+                if (c + 1 < side) {
+                    graph.addEdge(u, u + 1, 1 + rng.nextInt(10));
+                    graph.addEdge(u + 1, u, 1 + rng.nextInt(10));
+                }
+                if (r + 1 < side) {
+                    graph.addEdge(u, u + side, 1 + rng.nextInt(10));
+                    graph.addEdge(u + side, u, 1 + rng.nextInt(10));
+                }
+            }
+        }
+        hospitals = Set.of(side * side - 1, side * (side / 2) + side / 2);
+        parent = new int[side * side];
+        network = new SmartAmbulanceDirected.RoadNetwork(graph);
+        Silenced.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Silenced.stop();
+    }
+
+    @Benchmark
+    public void dijkstra() {
+        graph.dijkstra(0, hospitals);
+    }
+
+    @Benchmark
+    public int[] shortestTimes() {
+        return graph.shortestTimes(0, parent);
+    }
+
+    @Benchmark
+    public int csrShortestPaths() {
+        return network.router().shortestPaths(0);
+    }
+}
@@ -0,0 +1,53 @@
+package daa;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// The three UniversityExamScheduler colorings on a random conflict graph
+// with about 10 conflicts per course (results are printed, output discarded)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExamSchedulingBenchmark {
+
+    @Param({"200", "1000"})
+    public int courses;
+
+    UniversityExamScheduler.Graph graph;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        graph = new UniversityExamScheduler.Graph(courses);
+        for (int e = 0; e < courses * 5; e++) {
+            int a = rng.nextInt(courses), b = rng.nextInt(courses);
+            if (a != b && !graph.isAdjacent(a, b)) graph.addEdge(a, b);
+        }
+        Silenced.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Silenced.stop();
+    }
+
+    @Benchmark
+    public void greedy() {
+        graph.greedyColoring();
+    }
+
+    @Benchmark
+    public void welshPowell() {
+        graph.welshPowellColoring();
+    }
+
+    @Benchmark
+    public void dsatur() {
+        graph.dsaturColoring();
+    }
+}
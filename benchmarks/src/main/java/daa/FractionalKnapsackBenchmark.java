@@ -0,0 +1,65 @@
+package daa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// FractionalKnapsackSimple.solveFractional vs the selection-based solver on
+// the same all-divisible items (the selection solver only handles that case).
+// solveFractionalMixed is the original mixed catalog with the same weights and
+// values, about half of them indivisible. Capacity is about a third of the
+// total weight.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FractionalKnapsackBenchmark {
+
+    @Param({"1000", "100000"})
+    public int items;
+
+    List<FractionalKnapsackSimple.Item> catalog;
+    List<FractionalKnapsackSimple.Item> mixedCatalog;
+    double[] weight;
+    double[] value;
+    double capacity;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        catalog = new ArrayList<>(items);
+        mixedCatalog = new ArrayList<>(items);
+        weight = new double[items];
+        value = new double[items];
+        double total = 0;
+        for (int i = 0; i < items; i++) {
+            weight[i] = 1 + rng.nextDouble() * 49;
+            value[i] = 1 + rng.nextDouble() * 99;
+            catalog.add(new FractionalKnapsackSimple.Item("Item_" + i, weight[i], value[i], true));
+            mixedCatalog.add(new FractionalKnapsackSimple.Item("Item_" + i, weight[i], value[i], rng.nextBoolean()));
+            total += weight[i];
+        }
+        capacity = total / 3;
+    }
+
+    @Benchmark
+    public Object solveFractional() {
+        // solveFractional sorts its argument, so each call gets the original order
+        return FractionalKnapsackSimple.solveFractional(new ArrayList<>(catalog), capacity);
+    }
+
+    @Benchmark
+    public Object solveFractionalMixed() {
+        return FractionalKnapsackSimple.solveFractional(new ArrayList<>(mixedCatalog), capacity);
+    }
+
+    @Benchmark
+    public double[] fractionsBySelection() {
+        return FractionalKnapsackSimple.fractionsBySelection(weight, value, capacity);
+    }
+}
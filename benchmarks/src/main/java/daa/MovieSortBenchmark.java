@@ -0,0 +1,117 @@
+package daa;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// QuickSortMovies.quickSort and the later movie sort engines. The Lomuto
+// quickSort is only run by rating: by year it goes quadratic on 1M rows.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MovieSortBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    List<QuickSortMovies.Movie> movies;
+    QuickSortMovies.MovieTable table;
+
+    // same value ranges as QuickSortMovies.generateCSV
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        movies = new ArrayList<>(size);
+        table = new QuickSortMovies.MovieTable(size);
+        for (int i = 1; i <= size; i++) {
+            double rating = Math.round((5 + rng.nextDouble() * 5) * 100) / 100.0;
+            int year = 1980 + rng.nextInt(45);
+            movies.add(new QuickSortMovies.Movie(i, "Movie_" + i, rating, year));
+            table.add(i, 0, 0, rating, year);
+        }
+    }
+
+    QuickSortMovies.MovieTable tableCopy() {
+        QuickSortMovies.MovieTable copy = new QuickSortMovies.MovieTable(table.size);
+        copy.append(table);
+        return copy;
+    }
+
+    @Benchmark
+    public Object quickSortByRating() {
+        List<QuickSortMovies.Movie> copy = new ArrayList<>(movies);
+        QuickSortMovies.quickSort(copy, 0, copy.size() - 1, "rating");
+        return copy;
+    }
+
+    @Benchmark
+    public Object introSortByRating() {
+        List<QuickSortMovies.Movie> copy = new ArrayList<>(movies);
+        QuickSortMovies.introSort(copy, 0, copy.size() - 1, "rating");
+        return copy;
+    }
+
+    @Benchmark
+    public Object introSortByYear() {
+        List<QuickSortMovies.Movie> copy = new ArrayList<>(movies);
+        QuickSortMovies.introSort(copy, 0, copy.size() - 1, "year");
+        return copy;
+    }
+
+    @Benchmark
+    public Object listSortByRating() {
+        List<QuickSortMovies.Movie> copy = new ArrayList<>(movies);
+        copy.sort(QuickSortMovies.movieOrder("rating"));
+        return copy;
+    }
+
+    @Benchmark
+    public Object tableQuickSortByRating() {
+        QuickSortMovies.MovieTable copy = tableCopy();
+        QuickSortMovies.quickSort(copy, 0, copy.size - 1, "rating");
+        return copy;
+    }
+
+    @Benchmark
+    public Object tableQuickSortByYear() {
+        QuickSortMovies.MovieTable copy = tableCopy();
+        QuickSortMovies.quickSort(copy, 0, copy.size - 1, "year");
+        return copy;
+    }
+
+    @Benchmark
+    public Object parallelTableQuickSortByRating() {
+        QuickSortMovies.MovieTable copy = tableCopy();
+        QuickSortMovies.parallelQuickSort(copy, 0, copy.size - 1, "rating", Runtime.getRuntime().availableProcessors());
+        return copy;
+    }
+
+    // rating desc, year asc, id asc: packed keys vs an equivalent comparator chain
+    @Benchmark
+    public Object multiKeyPacked() {
+        List<QuickSortMovies.Movie> copy = new ArrayList<>(movies);
+        QuickSortMovies.sort(copy, QuickSortMovies.SortKey.RATING.desc(), QuickSortMovies.SortKey.YEAR.asc(),
+                QuickSortMovies.SortKey.ID.asc());
+        return copy;
+    }
+
+    @Benchmark
+    public Object multiKeyComparator() {
+        List<QuickSortMovies.Movie> copy = new ArrayList<>(movies);
+        copy.sort(Comparator.comparingDouble((QuickSortMovies.Movie m) -> m.rating).reversed()
+                .thenComparingInt(m -> m.year).thenComparingInt(m -> m.id));
+        return copy;
+    }
+
+    @Benchmark
+    public Object top100ByRating() {
+        return QuickSortMovies.topK(table, 100, QuickSortMovies.SortKey.RATING.desc());
+    }
+}
@@ -0,0 +1,38 @@
+package daa;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Main.mergeSort and the other order sort modes (see Main.sort)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OrderSortBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"merge", "parallel", "buffered", "key", "radix", "builtin"})
+    public String mode;
+
+    List<Main.Order> orders;
+
+    @Setup
+    public void setup() {
+        orders = new Main.OrderGenerator(size, 42, LocalDateTime.of(2024, 1, 1, 0, 0)).generate(1);
+    }
+
+    @Benchmark
+    public Object sort() {
+        List<Main.Order> copy = new ArrayList<>(orders);
+        Main.sort(copy, mode, Runtime.getRuntime().availableProcessors());
+        return copy;
+    }
+}
@@ -0,0 +1,28 @@
+package daa;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// Several of the programs print their results; benchmarks swap System.out for
+// a discarding stream so the terminal is not part of the measurement (the
+// string building inside the printing methods still is).
+final class Silenced {
+    private static PrintStream original;
+
+    private Silenced() {
+    }
+
+    static synchronized void start() {
+        if (original == null) {
+            original = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+    }
+
+    static synchronized void stop() {
+        if (original != null) {
+            System.setOut(original);
+            original = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package daa;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// SwiftShipBranchBound.solveTSP on a random symmetric cost matrix
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TspBenchmark {
+
+    @Param({"8", "11"})
+    public int cities;
+
+    int[][] costMatrix;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        costMatrix = new int[cities][cities];
+        for (int i = 0; i < cities; i++) {
+            costMatrix[i][i] = SwiftShipBranchBound.INF;
+            for (int j = i + 1; j < cities; j++) costMatrix[i][j] = costMatrix[j][i] = 5 + rng.nextInt(95);
+        }
+        Silenced.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Silenced.stop();
+    }
+
+    @Benchmark
+    public void solveTSP() {
+        SwiftShipBranchBound.solveTSP(costMatrix);
+    }
+}
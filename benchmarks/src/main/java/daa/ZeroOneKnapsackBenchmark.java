@@ -0,0 +1,40 @@
+package daa;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// DisasterReliefKnapsack.solveKnapsack over n items and capacity W
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ZeroOneKnapsackBenchmark {
+
+    @Param({"100", "1000"})
+    public int items;
+
+    @Param({"1000", "100000"})
+    public int capacity;
+
+    DisasterReliefKnapsack.Item[] catalog;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        catalog = new DisasterReliefKnapsack.Item[items];
+        int maxWeight = Math.max(2, capacity / 10);
+        for (int i = 0; i < items; i++) {
+            catalog[i] = new DisasterReliefKnapsack.Item("Item_" + i, 1 + rng.nextInt(maxWeight),
+                    1 + rng.nextInt(100), rng.nextBoolean());
+        }
+    }
+
+    @Benchmark
+    public Object solveKnapsack() {
+        return DisasterReliefKnapsack.solveKnapsack(catalog, capacity);
+    }
+}